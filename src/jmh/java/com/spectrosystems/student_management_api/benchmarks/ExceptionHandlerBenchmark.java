@@ -0,0 +1,62 @@
+package com.spectrosystems.student_management_api.benchmarks;
+
+import com.spectrosystems.student_management_api.dtos.StudentRequest;
+import com.spectrosystems.student_management_api.exceptions.DuplicateEmailException;
+import com.spectrosystems.student_management_api.exceptions.GlobalExceptionHandler;
+import com.spectrosystems.student_management_api.exceptions.StudentNotFoundException;
+import com.spectrosystems.student_management_api.models.Error;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures error response construction in {@link GlobalExceptionHandler}, including creating
+ * the exception itself (stack trace capture), which is paid on every failed request.
+ * Handlers that log the full stack trace are left out, as logging would dominate the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws Exception {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new StudentRequest(), "studentRequest");
+        bindingResult.addError(new FieldError("studentRequest", "email", "Invalid Email address"));
+        bindingResult.addError(new FieldError("studentRequest", "firstName", "First name must be 3-15 characters"));
+        MethodParameter parameter = new MethodParameter(ExceptionHandlerBenchmark.class.getDeclaredMethod("validationTarget", StudentRequest.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<Error> studentNotFound() {
+        return handler.handleStudentNotFound(new StudentNotFoundException("Student with id: 42 not found"));
+    }
+
+    @Benchmark
+    public ResponseEntity<Error> duplicateEmail() {
+        return handler.handleDuplicateEmail(new DuplicateEmailException("Email already exists"));
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, String>> validationErrors() {
+        return handler.handleValidationExceptions(validationException);
+    }
+
+    @SuppressWarnings("unused")
+    private void validationTarget(StudentRequest request) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.spectrosystems.student_management_api.benchmarks;
+
+import com.spectrosystems.student_management_api.configs.JwtClaims;
+import com.spectrosystems.student_management_api.configs.JwtService;
+import com.spectrosystems.student_management_api.models.Role;
+import com.spectrosystems.student_management_api.models.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of verifying a token the way JwtAuthFilter does it.
+ * {@code perRequestParserRebuild} reproduces the previous behaviour (a new parser built for
+ * each of the three claim extractions of a request); {@code sharedParserSingleParse} is the
+ * current path through {@link JwtService#parseToken(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    private Key legacyKey;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(1L).username("ahmed").email("ahmed@example.com").role(Role.ADMIN).build();
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        token = jwtService.generateToken(user);
+
+        legacyKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        legacyToken = Jwts.builder().setSubject(user.getUsername()).setIssuedAt(new Date()).setExpiration(new Date(System.currentTimeMillis() + 3_600_000)).signWith(legacyKey).compact();
+    }
+
+    @Benchmark
+    public boolean perRequestParserRebuild() {
+        String username = legacyParse().getSubject();
+        String usernameAgain = legacyParse().getSubject();
+        Date expiration = legacyParse().getExpiration();
+        return username.equals(usernameAgain) && expiration.after(new Date());
+    }
+
+    @Benchmark
+    public JwtClaims sharedParserSingleParse() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(User.builder().username("ahmed").role(Role.ADMIN).build());
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parserBuilder().setSigningKey(legacyKey).build().parseClaimsJws(legacyToken).getBody();
+    }
+}
@@ -0,0 +1,40 @@
+package com.spectrosystems.student_management_api.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures BCrypt hashing and verification at several strengths.
+ * Verification is what every login pays; the default strength used by the application is 10.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class PasswordEncoderBenchmark {
+
+    @Param({"4", "8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("StrongPass123");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("StrongPass123");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("StrongPass123", hash);
+    }
+}
@@ -0,0 +1,68 @@
+package com.spectrosystems.student_management_api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the representations a student listing can be sent in: plain JSON, gzip-compressed JSON
+ * (what {@code server.compression} produces), CBOR and Smile. Serialization time is the benchmark score;
+ * the payload size of each format is printed once per trial as {@code payload bytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentPayloadFormatBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<StudentResponse> responses;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            default -> new ObjectMapper();
+        };
+        // Same date handling as the ObjectMapper Spring Boot configures
+        objectMapper.registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        responses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            responses.add(StudentResponse.builder().id(i).firstName("Ahmed").lastName("Ashraf").email("student" + i + "@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).version(0L).build());
+        }
+        System.out.printf("%npayload bytes [%s, %d students]: %d%n", format, size, serialize().length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        if (!format.equals("json-gzip")) {
+            return objectMapper.writeValueAsBytes(responses);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, responses);
+        }
+        return bytes.toByteArray();
+    }
+}
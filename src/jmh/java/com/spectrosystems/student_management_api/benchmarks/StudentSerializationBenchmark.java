@@ -0,0 +1,60 @@
+package com.spectrosystems.student_management_api.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.mappers.StudentMapper;
+import com.spectrosystems.student_management_api.models.Student;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of turning student entities into the JSON body of a listing:
+ * mapping with {@link StudentMapper#toResponse(Student)} and Jackson serialization,
+ * separately and combined.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Student> students;
+    private List<StudentResponse> responses;
+
+    @Setup
+    public void setUp() {
+        // Same date handling as the ObjectMapper Spring Boot configures
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        students = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            students.add(Student.builder().id(i).firstName("Ahmed").lastName("Ashraf").email("student" + i + "@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build());
+        }
+        responses = students.stream().map(StudentMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public List<StudentResponse> mapToResponses() {
+        return students.stream().map(StudentMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeResponses() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(students.stream().map(StudentMapper::toResponse).toList());
+    }
+}
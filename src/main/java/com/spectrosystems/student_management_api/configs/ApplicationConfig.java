@@ -1,8 +1,11 @@
 package com.spectrosystems.student_management_api.configs;
 
 
+import com.spectrosystems.student_management_api.models.User;
 import com.spectrosystems.student_management_api.repositories.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,16 +13,24 @@ import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public UserDetailsService userDetailsService() {
@@ -31,17 +42,66 @@ public class ApplicationConfig {
         };
     }
 
+    /**
+     * Stores a re-encoded password after a successful login whose stored hash is outdated
+     * (unprefixed legacy BCrypt hash, or a lower strength than the current one).
+     */
+    @Bean
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (userDetails, newPassword) -> {
+            User user = (User) userDetails;
+            user.setPassword(newPassword);
+            return userRepository.save(user);
+        };
+    }
+
+    /**
+     * Authenticates logins by username or email.
+     * The user is loaded with a single query and returned as the principal of the authentication,
+     * so callers do not need to load it again. Unknown users are reported as UsernameNotFoundException
+     * instead of being hidden behind BadCredentialsException.
+     * The per-account login limit is checked as soon as the user is loaded, before the password is hashed;
+     * a rejection surfaces as an InternalAuthenticationServiceException caused by TooManyLoginAttemptsException.
+     */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder, LoginRateLimiter loginRateLimiter) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsService(login -> {
+            User user = userRepository.findByUsernameOrEmail(login).stream().findFirst().orElse(null);
+            loginRateLimiter.checkAccountAttempt(user == null ? null : user.getId(), login);
+            if (user == null) {
+                throw new UsernameNotFoundException(login);
+            }
+            return user;
+        });
+        authProvider.setHideUserNotFoundExceptions(false);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
+    /**
+     * Password encoder used for hashing and verification.
+     * New hashes are BCrypt with a strength calibrated at startup to take about {@code target-hash-time}
+     * (or the fixed {@code strength} if set) and are stored with a {@code {bcrypt}} prefix; legacy unprefixed
+     * hashes still verify and are upgraded on the next login. All hashing runs on a bounded pool.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.strength:0}") int strength,
+                                           @Value("${security.password.target-hash-time:250ms}") Duration targetHashTime,
+                                           @Value("${security.password.min-strength:10}") int minStrength,
+                                           @Value("${security.password.max-strength:16}") int maxStrength,
+                                           @Value("${security.password.hashing.threads:0}") int threads,
+                                           @Value("${security.password.hashing.queue-capacity:200}") int queueCapacity,
+                                           @Value("${security.password.hashing.timeout:10s}") Duration timeout) {
+        int bcryptStrength = strength > 0 ? strength : BCryptStrengthCalibrator.calibrate(targetHashTime, minStrength, maxStrength);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        // Hashes stored before the prefix was introduced are plain BCrypt
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new TimedPasswordEncoder(delegating, meterRegistry), poolSize, queueCapacity, timeout, meterRegistry);
     }
 
     @Bean
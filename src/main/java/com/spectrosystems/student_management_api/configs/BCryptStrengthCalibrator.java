@@ -0,0 +1,66 @@
+package com.spectrosystems.student_management_api.configs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the BCrypt strength (log2 of the work factor) that makes one hash take about the target time on this machine.
+ * Each strength step doubles the cost, so one measurement at the minimum strength is enough to extrapolate.
+ */
+@Slf4j
+final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * Measures hashing on this machine and returns the strength closest to the target without exceeding it.
+     *
+     * @param target      desired time for a single hash
+     * @param minStrength lowest strength ever returned, also the strength that is measured
+     * @param maxStrength highest strength ever returned
+     * @return calibrated strength between minStrength and maxStrength
+     */
+    static int calibrate(Duration target, int minStrength, int maxStrength) {
+        // Warm up the JIT on a cheap strength so the measurement is not dominated by interpretation
+        BCryptPasswordEncoder warmUp = new BCryptPasswordEncoder(4);
+        for (int i = 0; i < 20; i++) {
+            warmUp.encode(SAMPLE_PASSWORD);
+        }
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int strength = strengthFor(best, minStrength, target, maxStrength);
+        log.info("BCrypt strength {} selected: strength {} took {} ms, target is {} ms", strength, minStrength, best / 1_000_000, target.toMillis());
+        return strength;
+    }
+
+    /**
+     * Extrapolates from one measurement to the highest strength whose cost stays within the target.
+     *
+     * @param measuredNanos    time one hash took at the measured strength
+     * @param measuredStrength strength that was measured; also the lower bound of the result
+     * @param target           desired time for a single hash
+     * @param maxStrength      upper bound of the result
+     * @return strength between measuredStrength and maxStrength
+     */
+    static int strengthFor(long measuredNanos, int measuredStrength, Duration target, int maxStrength) {
+        int strength = measuredStrength;
+        long cost = Math.max(1, measuredNanos);
+        while (strength < maxStrength && cost * 2 <= target.toNanos()) {
+            cost *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,87 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.spectrosystems.student_management_api.exceptions.HashingCapacityExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password encoder decorator that runs hashing and verification on a dedicated, bounded thread pool.
+ * At most {@code threads} hashes are computed at once, so a burst of logins queues up instead of
+ * taking every CPU away from the rest of the API. When the queue is full, or a queued hash does not
+ * complete within the timeout, the request is rejected with {@link HashingCapacityExceededException}.
+ * Pool activity and queue depth are published as {@code executor.*} metrics with {@code name=passwordHashing}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService monitoredExecutor;
+    private final long timeoutNanos;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.monitoredExecutor = ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the hashing threads; called by Spring when the context shuts down.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs the task on the hashing pool and waits for its result.
+     */
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = monitoredExecutor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw new HashingCapacityExceededException("Too many sign-in requests in progress. Please retry shortly.");
+        }
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new HashingCapacityExceededException("Too many sign-in requests in progress. Please retry shortly.");
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.spectrosystems.student_management_api.configs;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's annotation-driven caching.
+ * Cache names, sizes and expiry are configured under {@code spring.cache} in application.yml.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache of StudentResponse DTOs keyed by student ID.
+     */
+    public static final String STUDENTS_CACHE = "students";
+
+    /**
+     * Makes every cache manager transaction-aware: puts and evictions made inside a transaction are applied
+     * only after it commits and dropped if it rolls back. Otherwise a rolled-back update would stay cached,
+     * and a read between the eviction and the commit could cache the old row again until it expires.
+     * Wraps the auto-configured manager rather than replacing it, so its {@code spring.cache} settings still apply.
+     */
+    @Bean
+    static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
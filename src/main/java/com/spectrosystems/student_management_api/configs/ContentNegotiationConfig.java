@@ -0,0 +1,29 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Registers compact binary representations alongside JSON.
+ * Clients opt in with {@code Accept: application/cbor} or {@code Accept: application/x-jackson-smile};
+ * JSON stays the default. Both converters are built from Spring Boot's ObjectMapper builder, so they
+ * honour the same {@code spring.jackson.*} settings (e.g. ISO dates) as the JSON converter.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.build().copyWith(new CBORFactory()));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.build().copyWith(new SmileFactory()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Local, lock-free token bucket store.
+ * Each bucket's state is an immutable snapshot swapped by compare-and-set, so concurrent attempts for
+ * the same key never block each other. Buckets idle for longer than the eviction window are dropped:
+ * by then they would have refilled anyway, so expiry never grants extra attempts.
+ * <p>
+ * The number of buckets is bounded so spraying many keys cannot exhaust memory. The bound is never
+ * enforced by evicting a bucket that is still draining, since that would let a flood of unique keys reset
+ * the bucket of the key under attack. At the limit, only buckets that have already refilled completely are
+ * removed. If none have, attempts for new keys are refused until one does, while existing keys keep their
+ * buckets. Under such a flood the store fails closed for new clients rather than open for the attacked key.
+ */
+@Component
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicReference<BucketState>> buckets;
+    private final long maxKeys;
+
+    // Earliest System.nanoTime() at which a bucket may have refilled; no point scanning for room before then
+    private volatile long nextRoomCheck;
+
+    public InMemoryRateLimitStore(@Value("${security.login-rate-limit.max-keys:100000}") long maxKeys, @Value("${security.login-rate-limit.eviction:15m}") Duration eviction) {
+        this.buckets = Caffeine.newBuilder().expireAfterAccess(eviction).build();
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public Duration tryConsume(String key, long capacity, Duration refillPeriod) {
+        double tokensPerNano = (double) capacity / refillPeriod.toNanos();
+        AtomicReference<BucketState> bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            if (buckets.estimatedSize() >= maxKeys) {
+                Duration wait = makeRoom();
+                if (!wait.isZero()) {
+                    return wait;
+                }
+            }
+            bucket = buckets.get(key, k -> new AtomicReference<>(new BucketState(capacity, System.nanoTime(), capacity, tokensPerNano)));
+        }
+        while (true) {
+            BucketState current = bucket.get();
+            long now = System.nanoTime();
+            double tokens = current.tokensAt(now);
+            if (tokens < 1) {
+                return Duration.ofNanos((long) Math.ceil((1 - tokens) / tokensPerNano));
+            }
+            if (bucket.compareAndSet(current, new BucketState(tokens - 1, now, capacity, tokensPerNano))) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    /**
+     * Removes the buckets that have refilled completely, which are indistinguishable from new ones.
+     * Scans at most once per refill, so a flood of new keys cannot turn every attempt into a full scan.
+     *
+     * @return zero if there is room for a new bucket, otherwise how long until a bucket may have refilled
+     */
+    private Duration makeRoom() {
+        long now = System.nanoTime();
+        long checkAt = nextRoomCheck;
+        if (now - checkAt < 0) {
+            return Duration.ofNanos(checkAt - now);
+        }
+        buckets.cleanUp();
+        buckets.asMap().values().removeIf(bucket -> bucket.get().isFullAt(now));
+        if (buckets.estimatedSize() < maxKeys) {
+            return Duration.ZERO;
+        }
+        long untilFull = buckets.asMap().values().stream().mapToLong(bucket -> bucket.get().nanosUntilFull(now)).min().orElse(0);
+        nextRoomCheck = now + Math.max(untilFull, 1);
+        return Duration.ofNanos(Math.max(untilFull, 1));
+    }
+
+    private record BucketState(double tokens, long updatedAt, long capacity, double tokensPerNano) {
+
+        double tokensAt(long now) {
+            return Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+        }
+
+        boolean isFullAt(long now) {
+            return tokensAt(now) >= capacity;
+        }
+
+        long nanosUntilFull(long now) {
+            return (long) Math.ceil((capacity - tokensAt(now)) / tokensPerNano);
+        }
+    }
+}
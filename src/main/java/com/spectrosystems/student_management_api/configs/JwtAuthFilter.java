@@ -1,10 +1,12 @@
 package com.spectrosystems.student_management_api.configs;
 
+import com.spectrosystems.student_management_api.models.Role;
+import com.spectrosystems.student_management_api.models.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -16,32 +18,68 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates requests carrying a JWT bearer token.
+ * By default the principal is loaded from the database; with {@code security.jwt.stateless=true}
+ * it is rebuilt from the role and user ID claims of the verified token instead, so authenticated
+ * requests need no database work for authorization.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final JwtTokenCache jwtTokenCache;
+    private final JwtRevocationList jwtRevocationList;
+    private final boolean stateless;
+
+    public JwtAuthFilter(JwtService jwtService, UserDetailsService userDetailsService, JwtTokenCache jwtTokenCache, JwtRevocationList jwtRevocationList, @Value("${security.jwt.stateless:false}") boolean stateless) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.jwtTokenCache = jwtTokenCache;
+        this.jwtRevocationList = jwtRevocationList;
+        this.stateless = stateless;
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String token;
-        final String username;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         token = authHeader.substring(7);
-        username = jwtService.extractUsername(token);
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(token, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Tokens seen before were already verified; skip parsing and the user lookup
+            UserDetails cachedUser = jwtTokenCache.get(token);
+            if (cachedUser != null) {
+                authenticate(request, cachedUser);
+            } else {
+                // Verify the signature and read every claim in a single parse
+                JwtClaims claims = jwtService.parseToken(token);
+                if (claims.getSubject() != null && !jwtRevocationList.isRevoked(claims)) {
+                    UserDetails userDetails = stateless && claims.getRole() != null ? userFromClaims(claims) : this.userDetailsService.loadUserByUsername(claims.getSubject());
+                    if (jwtService.isTokenValid(claims, userDetails)) {
+                        jwtTokenCache.put(token, userDetails, claims.getExpiration());
+                        authenticate(request, userDetails);
+                    }
+                }
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Rebuilds the principal from verified claims without touching the database.
+     */
+    private static UserDetails userFromClaims(JwtClaims claims) {
+        return User.builder().id(claims.getUserId() == null ? 0 : claims.getUserId()).username(claims.getSubject()).role(Role.valueOf(claims.getRole())).build();
+    }
+
+    private void authenticate(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -0,0 +1,42 @@
+package com.spectrosystems.student_management_api.configs;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Date;
+
+/**
+ * Claims read from a JWT whose signature and expiration have already been verified.
+ * Produced once per request by {@link JwtService#parseToken(String)}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class JwtClaims {
+
+    /**
+     * Username the token was issued to.
+     */
+    private String subject;
+
+    /**
+     * Issue date of the token, to the millisecond when the token carries it.
+     */
+    private Date issuedAt;
+
+    /**
+     * Expiration date of the token.
+     */
+    private Date expiration;
+
+    /**
+     * ID of the user the token was issued to, or null if the token has none.
+     */
+    private Long userId;
+
+    /**
+     * Role claim carried by the token, or null if the token has none.
+     */
+    private String role;
+}
@@ -0,0 +1,46 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * In-memory denylist of revoked tokens.
+ * Revoking a user rejects every token issued to them up to that moment. Entries only need to
+ * live as long as a token does, so they expire after the token lifetime.
+ * Issue times are compared to the millisecond, so logging in again right after a logout yields a valid token.
+ * Tokens carrying only the whole-second {@code iat} are compared at that precision; one issued in the second
+ * of the revocation counts as revoked.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtRevocationList {
+
+    private final Cache<String, Date> revokedUsers = Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(JwtService.JWT_EXPIRATION)).build();
+    private final JwtTokenCache jwtTokenCache;
+
+    /**
+     * Revokes all tokens issued to the user so far.
+     *
+     * @param username the user whose tokens should be revoked
+     */
+    public void revokeUser(String username) {
+        revokedUsers.put(username, new Date());
+        jwtTokenCache.evictUser(username);
+    }
+
+    /**
+     * Checks whether the token the claims were read from has been revoked.
+     *
+     * @param claims verified claims of the token
+     * @return true if the token was issued before its user was revoked, false otherwise
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        Date revokedAt = revokedUsers.getIfPresent(claims.getSubject());
+        return revokedAt != null && (claims.getIssuedAt() == null || !claims.getIssuedAt().after(revokedAt));
+    }
+}
@@ -1,9 +1,13 @@
 package com.spectrosystems.student_management_api.configs;
 
+import com.spectrosystems.student_management_api.models.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
@@ -16,12 +20,43 @@ import java.util.function.Function;
 /**
  * Service for generating, validating, and extracting information from JWT tokens.
  * Handles token creation, expiration checks, and claim extraction.
+ * A single immutable, thread-safe parser is built once and shared by all requests.
+ * Signing and parsing are timed as {@code jwt.sign} and {@code jwt.parse}.
  */
 @Service
 public class JwtService {
 
-    private final long jwtExpiration = 1000 * 60 * 60; // 1 hour
+    static final String ROLE_CLAIM = "role";
+    static final String USER_ID_CLAIM = "uid";
+    // The standard iat claim only has whole seconds, too coarse to tell a logout from a login in the same second
+    static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    static final long JWT_EXPIRATION = 1000 * 60 * 60; // 1 hour
     private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+    private final Timer signTimer;
+    private final Timer parseTimer;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.signTimer = Timer.builder("jwt.sign").description("Time to build and sign a JWT").register(meterRegistry);
+        this.parseTimer = Timer.builder("jwt.parse").description("Time to verify and parse a JWT, including rejected tokens").register(meterRegistry);
+    }
+
+    /**
+     * Verifies the token signature and expiration and returns its claims.
+     * Parses the token exactly once, so callers should keep the result instead of
+     * calling the individual extract methods.
+     *
+     * @param token JWT token
+     * @return verified claims of the token
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, has an invalid signature or has expired
+     */
+    public JwtClaims parseToken(String token) {
+        Claims claims = extractAllClaims(token);
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        Date issuedAt = issuedAtMillis != null ? new Date(issuedAtMillis) : claims.getIssuedAt();
+        return JwtClaims.builder().subject(claims.getSubject()).issuedAt(issuedAt).expiration(claims.getExpiration()).role(claims.get(ROLE_CLAIM, String.class)).userId(claims.get(USER_ID_CLAIM, Long.class)).build();
+    }
 
     /**
      * Extracts the username (subject) from the JWT token.
@@ -47,13 +82,20 @@ public class JwtService {
     }
 
     /**
-     * Generates a JWT token for the given user without extra claims.
+     * Generates a JWT token for the given user.
+     * For application users the role and user ID are embedded as claims, so the token can be
+     * authorized without loading the user from the database.
      *
      * @param userDetails user details
      * @return generated JWT token
      */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user && user.getRole() != null) {
+            claims.put(ROLE_CLAIM, user.getRole().name());
+            claims.put(USER_ID_CLAIM, user.getId());
+        }
+        return generateToken(claims, userDetails);
     }
 
     /**
@@ -64,11 +106,12 @@ public class JwtService {
      * @return generated JWT token
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        return buildToken(extraClaims, userDetails, JWT_EXPIRATION);
     }
 
     /**
      * Builds the JWT token with the specified claims, subject, and expiration time.
+     * The issue time is also stored with millisecond precision, see {@link JwtRevocationList}.
      *
      * @param extraClaims additional claims to include
      * @param userDetails user details
@@ -76,39 +119,32 @@ public class JwtService {
      * @return JWT token as a string
      */
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
-        return Jwts.builder().setClaims(extraClaims).setSubject(userDetails.getUsername()).setIssuedAt(new Date(System.currentTimeMillis())).setExpiration(new Date(System.currentTimeMillis() + expiration)).signWith(key).compact();
+        return signTimer.record(() -> {
+            long now = System.currentTimeMillis();
+            return Jwts.builder().setClaims(extraClaims).claim(ISSUED_AT_MILLIS_CLAIM, now).setSubject(userDetails.getUsername()).setIssuedAt(new Date(now)).setExpiration(new Date(now + expiration)).signWith(key).compact();
+        });
     }
 
     /**
-     * Checks if the provided JWT token is valid for the given user.
+     * Checks if already parsed claims are valid for the given user.
      *
-     * @param token       JWT token
+     * @param claims      claims returned by {@link #parseToken(String)}
      * @param userDetails user details
-     * @return true if the token is valid, false otherwise
+     * @return true if the claims belong to the user and have not expired, false otherwise
      */
-    boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    boolean isTokenValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
     /**
-     * Checks if the token has expired.
-     *
-     * @param token JWT token
-     * @return true if token is expired, false otherwise
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Extracts the expiration date from the token.
+     * Checks if the provided JWT token is valid for the given user.
      *
-     * @param token JWT token
-     * @return expiration date
+     * @param token       JWT token
+     * @param userDetails user details
+     * @return true if the token is valid, false otherwise
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(parseToken(token), userDetails);
     }
 
     /**
@@ -119,6 +155,6 @@ public class JwtService {
      */
     private Claims extractAllClaims(String token) {
         // Parse the JWT token to extract claims
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parseTimer.record(() -> jwtParser.parseClaimsJws(token).getBody());
     }
 }
@@ -0,0 +1,121 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Bounded cache of already verified JWTs and the principals they resolved to.
+ * Lets repeat requests with the same token skip signature verification and the user lookup.
+ * Entries are keyed by a SHA-256 hash of the token and expire after the configured TTL
+ * or at the token's own expiration, whichever comes first.
+ * Hit, miss and eviction statistics are published as {@code cache.*} metrics with {@code cache=jwtTokens}.
+ */
+@Component
+public class JwtTokenCache implements MeterBinder {
+
+    private final Cache<String, CachedPrincipal> cache;
+
+    public JwtTokenCache(@Value("${security.jwt.cache.max-size:10000}") long maxSize, @Value("${security.jwt.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new TokenExpiry(ttl.toNanos())).recordStats().build();
+    }
+
+    /**
+     * Returns the principal cached for the token, if the token was verified earlier and has not expired.
+     *
+     * @param token JWT token
+     * @return cached user details, or null on a cache miss
+     */
+    public UserDetails get(String token) {
+        CachedPrincipal cached = cache.getIfPresent(hash(token));
+        if (cached == null || cached.expiration().before(new Date())) {
+            return null;
+        }
+        return cached.userDetails();
+    }
+
+    /**
+     * Caches the principal resolved from a verified token.
+     *
+     * @param token       JWT token that has been verified
+     * @param userDetails principal the token resolved to
+     * @param expiration  expiration date of the token
+     */
+    public void put(String token, UserDetails userDetails, Date expiration) {
+        cache.put(hash(token), new CachedPrincipal(userDetails, expiration));
+    }
+
+    /**
+     * Removes every cached token that resolved to the given user.
+     * Scans the whole cache, so it is meant for rare events such as logout.
+     *
+     * @param username the user whose tokens should be forgotten
+     */
+    public void evictUser(String username) {
+        cache.asMap().values().removeIf(cached -> cached.userDetails().getUsername().equals(username));
+    }
+
+    /**
+     * Returns hit, miss and eviction statistics for the cache.
+     *
+     * @return snapshot of the cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Same tag keys as the Spring-managed caches; Prometheus rejects a metric name registered with differing keys
+        CaffeineCacheMetrics.monitor(registry, cache, "jwtTokens", Tags.of("cache.manager", "jwtTokenCache", "name", "jwtTokens"));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private record CachedPrincipal(UserDetails userDetails, Date expiration) {
+    }
+
+    /**
+     * Expires each entry after the TTL or at the token's expiration, whichever is sooner.
+     */
+    private record TokenExpiry(long ttlNanos) implements Expiry<String, CachedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            long untilExpiration = Duration.ofMillis(value.expiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
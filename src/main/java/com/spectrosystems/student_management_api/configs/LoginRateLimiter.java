@@ -0,0 +1,82 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.spectrosystems.student_management_api.exceptions.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Limits login attempts per client IP and per account with token buckets.
+ * The client limit is checked before the user is loaded, the account limit right after the user is loaded and
+ * before the password is hashed, so rejected attempts cost no BCrypt work. The account bucket is keyed on the
+ * user ID, so logging in by username and by email draws from the same budget.
+ * Rejections are counted in {@code auth.login.rate_limited}, tagged by the limit that was hit.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final RateLimitStore store;
+    private final boolean enabled;
+    private final long ipCapacity;
+    private final Duration ipRefillPeriod;
+    private final long usernameCapacity;
+    private final Duration usernameRefillPeriod;
+    private final Counter ipRejections;
+    private final Counter usernameRejections;
+
+    public LoginRateLimiter(RateLimitStore store, MeterRegistry meterRegistry,
+                            @Value("${security.login-rate-limit.enabled:true}") boolean enabled,
+                            @Value("${security.login-rate-limit.ip.capacity:20}") long ipCapacity,
+                            @Value("${security.login-rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod,
+                            @Value("${security.login-rate-limit.username.capacity:5}") long usernameCapacity,
+                            @Value("${security.login-rate-limit.username.refill-period:1m}") Duration usernameRefillPeriod) {
+        this.store = store;
+        this.enabled = enabled;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPeriod = ipRefillPeriod;
+        this.usernameCapacity = usernameCapacity;
+        this.usernameRefillPeriod = usernameRefillPeriod;
+        this.ipRejections = Counter.builder("auth.login.rate_limited").description("Login attempts rejected by the rate limiter").tag("limit", "ip").register(meterRegistry);
+        this.usernameRejections = Counter.builder("auth.login.rate_limited").description("Login attempts rejected by the rate limiter").tag("limit", "username").register(meterRegistry);
+    }
+
+    /**
+     * Records a login attempt from a client and rejects it if the client IP has run out of attempts.
+     *
+     * @param clientIp address the request came from
+     * @throws TooManyLoginAttemptsException if the limit is exceeded
+     */
+    public void checkClientAttempt(String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        Duration retryAfter = store.tryConsume("ip:" + clientIp, ipCapacity, ipRefillPeriod);
+        if (!retryAfter.isZero()) {
+            ipRejections.increment();
+            throw new TooManyLoginAttemptsException("Too many login attempts. Please retry later.", retryAfter);
+        }
+    }
+
+    /**
+     * Records a login attempt for an account and rejects it if the account has run out of attempts.
+     *
+     * @param userId ID of the user the login resolved to, or null if it matches no user
+     * @param login  username or email the attempt was made with; keys the bucket when it matches no user
+     * @throws TooManyLoginAttemptsException if the limit is exceeded
+     */
+    public void checkAccountAttempt(Long userId, String login) {
+        if (!enabled) {
+            return;
+        }
+        String key = userId != null ? "user:" + userId : "login:" + login.toLowerCase(Locale.ROOT);
+        Duration retryAfter = store.tryConsume(key, usernameCapacity, usernameRefillPeriod);
+        if (!retryAfter.isZero()) {
+            usernameRejections.increment();
+            throw new TooManyLoginAttemptsException("Too many login attempts. Please retry later.", retryAfter);
+        }
+    }
+}
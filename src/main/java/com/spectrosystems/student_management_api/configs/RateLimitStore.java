@@ -0,0 +1,22 @@
+package com.spectrosystems.student_management_api.configs;
+
+import java.time.Duration;
+
+/**
+ * Storage for token buckets used by {@link LoginRateLimiter}.
+ * The default {@link InMemoryRateLimitStore} keeps buckets per instance; a shared implementation
+ * (e.g. backed by Redis) can replace it by declaring its own {@code @Primary} bean.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from the bucket identified by the key, creating a full bucket if none exists.
+     * A bucket holds at most {@code capacity} tokens and refills completely over {@code refillPeriod}.
+     *
+     * @param key          bucket identifier, e.g. {@code ip:10.0.0.1}
+     * @param capacity     maximum number of tokens (burst size)
+     * @param refillPeriod time to refill an empty bucket
+     * @return zero if a token was taken, otherwise how long until the next token is available
+     */
+    Duration tryConsume(String key, long capacity, Duration refillPeriod);
+}
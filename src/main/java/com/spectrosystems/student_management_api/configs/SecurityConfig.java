@@ -1,5 +1,6 @@
 package com.spectrosystems.student_management_api.configs;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,9 +20,16 @@ public class SecurityConfig {
     private final JwtAuthFilter jwtAuthFilter;
     private final AuthenticationProvider authenticationProvider;
 
+    /**
+     * ASYNC dispatches (used to complete streaming responses) are permitted because the
+     * originating request has already been authorized.
+     * The audit trail is readable by admins only, unlike the other student GET endpoints.
+     * The Prometheus endpoint is open so a scraper can read it without a short-lived JWT; the other
+     * actuator endpoints stay admin-only. Restrict it at the network level where metrics must not be public.
+     */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        http.csrf(csrf -> csrf.disable()).authorizeHttpRequests(auth -> auth.requestMatchers("/api/v1/auth/**", "/h2-console/**").permitAll().requestMatchers(HttpMethod.GET, "/api/students/**").hasAnyAuthority("USER", "ADMIN").requestMatchers("/api/students/**").hasAuthority("ADMIN").anyRequest().authenticated()).sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)).authenticationProvider(authenticationProvider).addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+        http.csrf(csrf -> csrf.disable()).authorizeHttpRequests(auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll().requestMatchers("/api/v1/auth/**", "/h2-console/**", "/actuator/health", "/actuator/prometheus").permitAll().requestMatchers("/actuator/**", "/api/students/audit").hasAuthority("ADMIN").requestMatchers(HttpMethod.GET, "/api/students/**").hasAnyAuthority("USER", "ADMIN").requestMatchers("/api/students/**").hasAuthority("ADMIN").anyRequest().authenticated()).sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)).authenticationProvider(authenticationProvider).addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
 
         http.headers(headers -> headers.frameOptions(frame -> frame.disable()));
 
@@ -0,0 +1,29 @@
+package com.spectrosystems.student_management_api.configs;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Reports which threading model the application runs on.
+ * Virtual threads are enabled by the {@code virtual-threads} profile but only take effect on Java 21+,
+ * so a mismatch is logged instead of silently falling back to platform threads.
+ */
+@Slf4j
+@Configuration
+public class ThreadingConfig {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logThreadingModel(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Request handling runs on virtual threads");
+        } else if (requested) {
+            log.warn("Virtual threads requested but Java {} does not support them; using platform threads", Runtime.version().feature());
+        }
+    }
+}
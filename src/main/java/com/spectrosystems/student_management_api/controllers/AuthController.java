@@ -3,6 +3,7 @@ package com.spectrosystems.student_management_api.controllers;
 import com.spectrosystems.student_management_api.dtos.AuthenticationResponse;
 import com.spectrosystems.student_management_api.dtos.RegisterRequest;
 import com.spectrosystems.student_management_api.services.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -24,11 +25,23 @@ public class AuthController {
      *
      * @param usernameOrEmail the username or email of the user
      * @param password        the user's password
+     * @param request         the HTTP request, used for the client address the login rate limit is keyed on
      * @return ResponseEntity containing the authentication response (JWT token, user info, etc.)
      */
     @PostMapping("/login")
-    public ResponseEntity<AuthenticationResponse> login(@RequestParam String usernameOrEmail, @RequestParam String password) {
-        return ResponseEntity.ok(authService.login(usernameOrEmail, password));
+    public ResponseEntity<AuthenticationResponse> login(@RequestParam String usernameOrEmail, @RequestParam String password, HttpServletRequest request) {
+        return ResponseEntity.ok(authService.login(usernameOrEmail, password, request.getRemoteAddr()));
+    }
+
+    /**
+     * Logs out the authenticated user, revoking all tokens issued to them so far.
+     *
+     * @return ResponseEntity with HTTP 204 No Content on success
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout() {
+        authService.logout();
+        return ResponseEntity.noContent().build(); // 204 No Content
     }
 
     /**
@@ -1,14 +1,47 @@
 package com.spectrosystems.student_management_api.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.spectrosystems.student_management_api.dtos.StudentAuditPageResponse;
+import com.spectrosystems.student_management_api.dtos.StudentBulkDeleteRequest;
+import com.spectrosystems.student_management_api.dtos.StudentBulkResponse;
+import com.spectrosystems.student_management_api.dtos.StudentBulkUpdateRequest;
+import com.spectrosystems.student_management_api.dtos.StudentChangesResponse;
+import com.spectrosystems.student_management_api.dtos.StudentImportResponse;
+import com.spectrosystems.student_management_api.dtos.StudentPageResponse;
 import com.spectrosystems.student_management_api.dtos.StudentRequest;
 import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.dtos.StudentSearchRequest;
+import com.spectrosystems.student_management_api.mappers.StudentMapper;
+import com.spectrosystems.student_management_api.services.StudentAuditService;
+import com.spectrosystems.student_management_api.services.StudentBulkService;
+import com.spectrosystems.student_management_api.services.StudentChangesService;
+import com.spectrosystems.student_management_api.services.StudentExportService;
+import com.spectrosystems.student_management_api.services.StudentImportService;
 import com.spectrosystems.student_management_api.services.StudentService;
+import com.spectrosystems.student_management_api.services.StudentTableVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for managing student records.
@@ -19,29 +52,142 @@ import java.util.List;
 @RequestMapping("/api/students")
 public class StudentController {
 
+    /**
+     * Media type of JSON Merge Patch documents (RFC 7396).
+     */
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    /**
+     * Media type of Smile, the binary JSON format registered in ContentNegotiationConfig.
+     */
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     private final StudentService studentService;
+    private final StudentExportService studentExportService;
+    private final StudentImportService studentImportService;
+    private final StudentChangesService studentChangesService;
+    private final StudentBulkService studentBulkService;
+    private final StudentAuditService studentAuditService;
+    private final StudentTableVersion studentTableVersion;
 
     /**
      * Retrieves all students.
+     * The response carries an ETag derived from the table version; a matching If-None-Match
+     * is answered with 304 without reading the table. The ETag is weak, since the same list may be
+     * sent as JSON, CBOR or Smile, and Tomcat only gzips responses without a strong ETag.
      *
+     * @param fields     optional comma-separated fields to return, e.g. {@code id,email}; all fields if omitted
+     * @param webRequest current request, used to evaluate If-None-Match
      * @return list of all students as StudentResponse DTOs wrapped in ResponseEntity
      */
     @GetMapping
-    public ResponseEntity<List<StudentResponse>> retrieveAllStudents() {
-        List<StudentResponse> students = studentService.retrieveAllStudents();
-        return ResponseEntity.ok(students); // 200 OK
+    public ResponseEntity<List<StudentResponse>> retrieveAllStudents(@RequestParam(required = false) String fields, WebRequest webRequest) {
+        Set<String> selected = fields == null ? null : StudentMapper.parseFields(fields);
+        // Take the version before reading so a concurrent change can only make the ETag older, never newer
+        String etag = "W/\"students-" + studentTableVersion.current() + fieldsTag(selected) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build(); // 304 Not Modified
+        }
+        List<StudentResponse> students = selected == null ? studentService.retrieveAllStudents() : studentService.retrieveAllStudents(selected);
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(students); // 200 OK
+    }
+
+    /**
+     * Retrieves a page of students using cursor-based pagination.
+     * Selected instead of {@link #retrieveAllStudents(String, WebRequest)} whenever the {@code limit} parameter is present.
+     *
+     * @param after      ID of the last student from the previous page; omit for the first page
+     * @param limit      maximum number of students to return
+     * @param fields     optional comma-separated fields to return, e.g. {@code id,email}; all fields if omitted
+     * @param webRequest current request, used to evaluate If-None-Match
+     * @return page of students and the cursor for the next page wrapped in ResponseEntity
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<StudentPageResponse> retrieveStudentsPage(@RequestParam(required = false) Long after, @RequestParam int limit, @RequestParam(required = false) String fields, WebRequest webRequest) {
+        Set<String> selected = fields == null ? null : StudentMapper.parseFields(fields);
+        String etag = "W/\"students-" + studentTableVersion.current() + "-" + (after == null ? 0 : after) + "-" + limit + fieldsTag(selected) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build(); // 304 Not Modified
+        }
+        StudentPageResponse page = selected == null ? studentService.retrieveStudentsPage(after, limit) : studentService.retrieveStudentsPage(after, limit, selected);
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(page); // 200 OK
+    }
+
+    /**
+     * Searches students by last name prefix, email and date of birth range.
+     * All filters are optional query parameters; results are paged by cursor like the list endpoint.
+     *
+     * @param search filters bound from the query parameters (lastName, email, bornFrom, bornTo, after, limit)
+     * @param fields optional comma-separated fields to return, e.g. {@code id,email}; all fields if omitted
+     * @return page of matching students wrapped in ResponseEntity
+     */
+    @GetMapping("/search")
+    public ResponseEntity<StudentPageResponse> searchStudents(StudentSearchRequest search, @RequestParam(required = false) String fields) {
+        StudentPageResponse page = fields == null ? studentService.searchStudents(search) : studentService.searchStudents(search, StudentMapper.parseFields(fields));
+        return ResponseEntity.ok(page); // 200 OK
+    }
+
+    /**
+     * Exports all students as newline-delimited JSON.
+     * Rows are streamed from the database straight to the response, so the full table is never held in memory.
+     *
+     * @return streaming body writing one StudentResponse JSON object per line wrapped in ResponseEntity
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportStudents() {
+        StreamingResponseBody body = studentExportService::exportStudents;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body); // 200 OK
+    }
+
+    /**
+     * Retrieves the students created, updated or deleted since the given position.
+     * Start without parameters, then pass back the {@code since} and {@code afterId} of each response.
+     *
+     * @param since   update time returned by the previous call (ISO-8601); omit to start from the beginning
+     * @param afterId ID returned by the previous call; omit if the response had none
+     * @param limit   maximum number of changes to return, at most 500
+     * @return changed students, deleted IDs and the position for the next call wrapped in ResponseEntity
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<StudentChangesResponse> retrieveChanges(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+                                                                  @RequestParam(required = false) Long afterId, @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(studentChangesService.retrieveChanges(since, afterId, limit)); // 200 OK
+    }
+
+    /**
+     * Retrieves a page of the audit trail: who created, updated or deleted which student, oldest first.
+     * Entries are written asynchronously and appear shortly after the mutation commits.
+     *
+     * @param studentId optional ID of a student to return only that student's entries
+     * @param after     optional cursor: the {@code nextCursor} of the previous page
+     * @param limit     page size, at most 500
+     * @return page of audit entries with the cursor for the next page wrapped in ResponseEntity
+     */
+    @GetMapping("/audit")
+    public ResponseEntity<StudentAuditPageResponse> retrieveAudit(@RequestParam(required = false) Long studentId, @RequestParam(required = false) Long after, @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(studentAuditService.retrieveAuditPage(studentId, after, limit)); // 200 OK
     }
 
     /**
      * Retrieves a single student by ID.
+     * The response carries a strong ETag built from the student's ID, version and response format, and
+     * {@code Vary: Accept}; a matching If-None-Match is answered with 304 and no body.
+     * Selected fields are taken from the cached student rather than queried separately.
      *
-     * @param id ID of the student to retrieve
+     * @param id         ID of the student to retrieve
+     * @param fields     optional comma-separated fields to return, e.g. {@code id,email}; all fields if omitted
+     * @param webRequest current request, used to evaluate If-None-Match
      * @return StudentResponse DTO of the requested student wrapped in ResponseEntity
      */
     @GetMapping("/{id}")
-    public ResponseEntity<StudentResponse> retrieveStudentById(@PathVariable Long id) {
+    public ResponseEntity<StudentResponse> retrieveStudentById(@PathVariable Long id, @RequestParam(required = false) String fields, WebRequest webRequest) {
+        Set<String> selected = fields == null ? null : StudentMapper.parseFields(fields);
         StudentResponse student = studentService.retrieveStudentById(id);
-        return ResponseEntity.ok(student); // 200 OK
+        String etag = etag(student, selected, webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build(); // 304 Not Modified
+        }
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(selected == null ? student : StudentMapper.select(student, selected)); // 200 OK
     }
 
     /**
@@ -56,17 +202,90 @@ public class StudentController {
         return ResponseEntity.status(201).body(createdStudent); // 201 Created
     }
 
+    /**
+     * Creates students in bulk from a JSON array.
+     * Rows are validated individually, so invalid rows are reported instead of failing the whole import.
+     *
+     * @param requests list of StudentRequest DTOs to import
+     * @return per-row import report wrapped in ResponseEntity
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StudentImportResponse> importStudents(@RequestBody List<StudentRequest> requests) {
+        StudentImportResponse report = studentImportService.importStudents(requests);
+        return ResponseEntity.ok(report); // 200 OK
+    }
+
+    /**
+     * Creates students in bulk from an uploaded CSV file.
+     * The file must start with the header {@code firstName,lastName,email,dateOfBirth}.
+     *
+     * @param file CSV file uploaded as multipart form data
+     * @return per-row import report wrapped in ResponseEntity
+     * @throws IOException if the uploaded file cannot be read
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StudentImportResponse> importStudentsCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            StudentImportResponse report = studentImportService.importStudentsCsv(reader);
+            return ResponseEntity.ok(report); // 200 OK
+        }
+    }
+
+    /**
+     * Applies the same change to many students in one transaction.
+     *
+     * @param request IDs of the students to update and the fields to change
+     * @return number of students updated and the IDs that were not found wrapped in ResponseEntity
+     */
+    @PostMapping("/bulk-update")
+    public ResponseEntity<StudentBulkResponse> updateStudents(@Valid @RequestBody StudentBulkUpdateRequest request) {
+        return ResponseEntity.ok(studentBulkService.updateStudents(request)); // 200 OK
+    }
+
+    /**
+     * Deletes many students in one transaction.
+     *
+     * @param request IDs of the students to delete
+     * @return number of students deleted and the IDs that were not found wrapped in ResponseEntity
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<StudentBulkResponse> deleteStudents(@Valid @RequestBody StudentBulkDeleteRequest request) {
+        return ResponseEntity.ok(studentBulkService.deleteStudents(request.getIds())); // 200 OK
+    }
+
     /**
      * Updates an existing student by ID.
+     * With If-Match, the update only succeeds if the student still has the version in the given ETag;
+     * otherwise 412 is returned and nothing is written.
      *
      * @param id      ID of the student to update
      * @param request StudentRequest DTO containing updated student data
+     * @param ifMatch    optional ETag(s) from a previous read of the student
+     * @param webRequest current request, used to pick the ETag of the negotiated format
      * @return StudentResponse DTO of the updated student wrapped in ResponseEntity
      */
     @PutMapping("/{id}")
-    public ResponseEntity<StudentResponse> updateStudent(@PathVariable Long id, @Valid @RequestBody StudentRequest request) {
-        StudentResponse updatedStudent = studentService.updateStudent(id, request);
-        return ResponseEntity.ok(updatedStudent); // 200 OK
+    public ResponseEntity<StudentResponse> updateStudent(@PathVariable Long id, @Valid @RequestBody StudentRequest request, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, WebRequest webRequest) {
+        StudentResponse updatedStudent = studentService.updateStudent(id, request, expectedVersions(id, ifMatch));
+        return ResponseEntity.ok().eTag(etag(updatedStudent, null, webRequest)).varyBy(HttpHeaders.ACCEPT).body(updatedStudent); // 200 OK
+    }
+
+    /**
+     * Partially updates a student with a JSON Merge Patch (RFC 7396).
+     * Only the fields present in the body are changed, and only changed columns are written.
+     * With If-Match, the patch only succeeds if the student still has the version in the given ETag;
+     * otherwise 412 is returned and nothing is written.
+     *
+     * @param id      ID of the student to patch
+     * @param patch   JSON object with the fields to change
+     * @param ifMatch    optional ETag(s) from a previous read of the student
+     * @param webRequest current request, used to pick the ETag of the negotiated format
+     * @return StudentResponse DTO of the patched student wrapped in ResponseEntity
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<StudentResponse> patchStudent(@PathVariable Long id, @RequestBody JsonNode patch, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch, WebRequest webRequest) {
+        StudentResponse patchedStudent = studentService.patchStudent(id, patch, expectedVersions(id, ifMatch));
+        return ResponseEntity.ok().eTag(etag(patchedStudent, null, webRequest)).varyBy(HttpHeaders.ACCEPT).body(patchedStudent); // 200 OK
     }
 
     /**
@@ -80,4 +299,78 @@ public class StudentController {
         studentService.deleteStudent(id);
         return ResponseEntity.noContent().build(); // 204 No Content
     }
+
+    /**
+     * Strong ETag of a single student, {@code "<id>-<version>"} plus the fields suffix of sparse representations
+     * and the format suffix of binary ones. A strong ETag must change whenever the bytes do, so JSON, CBOR and
+     * Smile bodies of the same student get different ETags.
+     */
+    private static String etag(StudentResponse student, Set<String> fields, WebRequest webRequest) {
+        return "\"" + student.getId() + "-" + student.getVersion() + fieldsTag(fields) + formatTag(webRequest) + "\"";
+    }
+
+    /**
+     * Suffix naming the binary format the response is written in; JSON has none.
+     * Follows how the message converter is chosen: the most preferred Accept entry wins, and JSON is
+     * preferred for wildcards. Without a compatible entry the request fails with 406 anyway.
+     */
+    private static String formatTag(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return "";
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return "-cbor";
+            }
+            if (mediaType.isCompatibleWith(SMILE)) {
+                return "-smile";
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Extracts the student versions listed in an If-Match header.
+     * Weak ETags and ETags of other students never match, as If-Match requires strong comparison.
+     *
+     * @return the acceptable versions, or null if the header is absent or {@code *}
+     */
+    private static Set<Long> expectedVersions(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (value.startsWith("W/") || value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                continue;
+            }
+            String[] parts = value.substring(1, value.length() - 1).split("-");
+            if (parts.length >= 2 && parts[0].equals(String.valueOf(id)) && parts[1].matches("\\d+")) {
+                versions.add(Long.parseLong(parts[1]));
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Suffix distinguishing the ETag of a sparse representation from the full one.
+     */
+    private static String fieldsTag(Set<String> fields) {
+        return fields == null ? "" : "-" + String.join(".", fields);
+    }
 }
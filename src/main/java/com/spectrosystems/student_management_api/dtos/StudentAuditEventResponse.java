@@ -0,0 +1,24 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for one entry of the student audit trail.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentAuditEventResponse {
+    long id;
+    Instant occurredAt;
+    String principal;
+    StudentAuditAction action;
+    long studentId;
+}
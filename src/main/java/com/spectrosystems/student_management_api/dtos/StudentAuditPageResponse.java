@@ -0,0 +1,29 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a single page of the student audit trail returned by keyset pagination.
+ * Carries the cursor to pass as {@code after} to fetch the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentAuditPageResponse {
+
+    /**
+     * Audit entries on this page, oldest first.
+     */
+    List<StudentAuditEventResponse> events;
+
+    /**
+     * ID of the last entry on this page, or null if there are no more pages.
+     */
+    Long nextCursor;
+}
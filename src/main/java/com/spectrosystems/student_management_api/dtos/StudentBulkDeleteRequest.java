@@ -0,0 +1,26 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for deleting many students at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentBulkDeleteRequest {
+
+    /**
+     * IDs of the students to delete.
+     */
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 10000, message = "At most 10000 ids can be deleted at once")
+    List<@NotNull Long> ids;
+}
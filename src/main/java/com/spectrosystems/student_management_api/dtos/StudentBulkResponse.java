@@ -0,0 +1,28 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk update or delete.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentBulkResponse {
+
+    /**
+     * Number of students updated or deleted.
+     */
+    int affected;
+
+    /**
+     * Requested IDs that did not match an existing student, in request order.
+     */
+    List<Long> notFound;
+}
@@ -0,0 +1,60 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for applying the same change to many students at once.
+ * Fields left null are not changed. The email cannot be changed in bulk, since it must be unique.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentBulkUpdateRequest {
+
+    /**
+     * IDs of the students to update.
+     */
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 10000, message = "At most 10000 ids can be updated at once")
+    List<@NotNull Long> ids;
+
+    /**
+     * New first name, or null to keep the current one.
+     */
+    @Size(min = 3, max = 15, message = "First name must be 3-15 characters")
+    @Pattern(regexp = "^[A-Za-z]+$", message = "First name must contain only letters")
+    String firstName;
+
+    /**
+     * New last name, or null to keep the current one.
+     */
+    @Size(min = 3, max = 15, message = "Last name must be 3-15 characters")
+    @Pattern(regexp = "^[A-Za-z]+$", message = "Last name must contain only letters")
+    String lastName;
+
+    /**
+     * New date of birth, or null to keep the current one.
+     */
+    @Past(message = "The date of birth must be in the past")
+    LocalDate dateOfBirth;
+
+    /**
+     * Rejects requests that would not change anything.
+     *
+     * @return true if at least one field to change is set
+     */
+    @JsonIgnore
+    @AssertTrue(message = "At least one of firstName, lastName or dateOfBirth is required")
+    public boolean isAnyFieldSet() {
+        return firstName != null || lastName != null || dateOfBirth != null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a batch of student changes returned by the change feed.
+ * Carries the position to pass as {@code since} and {@code afterId} to fetch the following changes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentChangesResponse {
+
+    /**
+     * Students created or updated in this batch, in change order.
+     */
+    List<StudentResponse> changed;
+
+    /**
+     * IDs of students deleted in this batch, in change order.
+     */
+    List<Long> deleted;
+
+    /**
+     * Update time to pass as {@code since} on the next request.
+     */
+    Instant since;
+
+    /**
+     * ID to pass as {@code afterId} on the next request, or null if not needed.
+     */
+    Long afterId;
+
+    /**
+     * Whether more changes are available right away.
+     */
+    boolean hasMore;
+}
@@ -0,0 +1,33 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object summarizing a bulk student import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportResponse {
+
+    /**
+     * Number of students created.
+     */
+    int created;
+
+    /**
+     * Number of rows that were rejected.
+     */
+    int failed;
+
+    /**
+     * Per-row outcomes, in the order the rows were submitted.
+     */
+    List<StudentImportResult> results;
+}
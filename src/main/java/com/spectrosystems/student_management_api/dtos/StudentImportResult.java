@@ -0,0 +1,43 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object describing the outcome of importing a single row.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportResult {
+
+    /**
+     * Possible outcomes for an imported row.
+     */
+    public enum Status {
+        CREATED, INVALID, DUPLICATE_EMAIL, FAILED
+    }
+
+    /**
+     * 1-based position of the row in a JSON payload, or for CSV the file line the record starts on (header is line 1).
+     */
+    int row;
+
+    /**
+     * Outcome of the import for this row.
+     */
+    Status status;
+
+    /**
+     * ID of the created student, or null if the row was not imported.
+     */
+    Long id;
+
+    /**
+     * Reason the row was rejected, or null if it was imported.
+     */
+    String message;
+}
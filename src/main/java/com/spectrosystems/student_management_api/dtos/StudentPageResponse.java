@@ -0,0 +1,29 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a single page of students returned by keyset pagination.
+ * Carries the cursor to pass as {@code after} to fetch the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentPageResponse {
+
+    /**
+     * Students on this page, ordered by ascending ID.
+     */
+    List<StudentResponse> students;
+
+    /**
+     * ID of the last student on this page, or null if there are no more pages.
+     */
+    Long nextCursor;
+}
@@ -1,19 +1,29 @@
 package com.spectrosystems.student_management_api.dtos;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.time.Instant;
 import java.time.LocalDate;
 
+/**
+ * Data Transfer Object for a student returned by the API.
+ * When only some fields are requested ({@code ?fields=}), the others are left null and omitted from the JSON.
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class StudentResponse {
     long id;
     String firstName;
     String lastName;
     String email;
     LocalDate dateOfBirth;
+    Long version;
+    Instant createdAt;
+    Instant updatedAt;
 }
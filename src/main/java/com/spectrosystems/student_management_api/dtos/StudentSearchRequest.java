@@ -0,0 +1,53 @@
+package com.spectrosystems.student_management_api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object holding the filters of a student search.
+ * Bound from query parameters; every filter is optional and filters are combined with AND.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentSearchRequest {
+
+    /**
+     * Case-sensitive prefix the last name must start with.
+     */
+    String lastName;
+
+    /**
+     * Exact email address.
+     */
+    String email;
+
+    /**
+     * Earliest date of birth, inclusive.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate bornFrom;
+
+    /**
+     * Latest date of birth, inclusive.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    LocalDate bornTo;
+
+    /**
+     * ID of the last student from the previous page, or null for the first page.
+     */
+    Long after;
+
+    /**
+     * Maximum number of students to return.
+     */
+    @Builder.Default
+    int limit = 50;
+}
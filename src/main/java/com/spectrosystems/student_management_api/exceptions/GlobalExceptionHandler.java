@@ -1,9 +1,14 @@
 package com.spectrosystems.student_management_api.exceptions;
 
 import com.spectrosystems.student_management_api.models.Error;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -18,11 +23,15 @@ import java.util.Map;
  * Global exception handler for the Student Management API.
  * Catches and handles all exceptions thrown by controllers, returning
  * structured error responses with appropriate HTTP status codes.
+ * Every handled exception is counted in {@code api.exceptions}, tagged by exception type and status.
  */
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * Handles StudentNotFoundException.
      *
@@ -31,6 +40,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(StudentNotFoundException.class)
     public ResponseEntity<Error> handleStudentNotFound(StudentNotFoundException ex) {
+        count(ex, HttpStatus.NOT_FOUND);
         Error error = new Error(HttpStatus.NOT_FOUND.value(), ex.getMessage(), LocalDateTime.now());
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
@@ -43,6 +53,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<Error> handleUserNotFound(UserNotFoundException ex) {
+        count(ex, HttpStatus.NOT_FOUND);
         Error error = new Error(HttpStatus.NOT_FOUND.value(), ex.getMessage(), LocalDateTime.now());
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
@@ -55,6 +66,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(InvalidCredentialsException.class)
     public ResponseEntity<Error> handleInvalidCredentials(InvalidCredentialsException ex) {
+        count(ex, HttpStatus.UNAUTHORIZED);
         Error error = new Error(HttpStatus.UNAUTHORIZED.value(), ex.getMessage(), LocalDateTime.now());
         return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
     }
@@ -67,6 +79,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(DuplicateEmailException.class)
     public ResponseEntity<Error> handleDuplicateEmail(DuplicateEmailException ex) {
+        count(ex, HttpStatus.CONFLICT);
         Error error = new Error(HttpStatus.CONFLICT.value(), ex.getMessage(), LocalDateTime.now());
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
@@ -79,10 +92,103 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(DuplicateUsernameException.class)
     public ResponseEntity<Error> handleDuplicateUsername(DuplicateUsernameException ex) {
+        count(ex, HttpStatus.CONFLICT);
         Error error = new Error(HttpStatus.CONFLICT.value(), ex.getMessage(), LocalDateTime.now());
         return new ResponseEntity<>(error, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handles InvalidImportFileException.
+     *
+     * @param ex the exception thrown when an uploaded import file cannot be parsed
+     * @return ResponseEntity containing an Error object with 400 BAD REQUEST
+     */
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<Error> handleInvalidImportFile(InvalidImportFileException ex) {
+        count(ex, HttpStatus.BAD_REQUEST);
+        Error error = new Error(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles InvalidFieldSelectionException.
+     *
+     * @param ex the exception thrown when {@code fields} names an unknown field
+     * @return ResponseEntity containing an Error object with 400 BAD REQUEST
+     */
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<Error> handleInvalidFieldSelection(InvalidFieldSelectionException ex) {
+        count(ex, HttpStatus.BAD_REQUEST);
+        Error error = new Error(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles InvalidPatchException.
+     *
+     * @param ex the exception thrown when a merge patch is malformed or produces an invalid student
+     * @return ResponseEntity containing an Error object with 400 BAD REQUEST
+     */
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<Error> handleInvalidPatch(InvalidPatchException ex) {
+        count(ex, HttpStatus.BAD_REQUEST);
+        Error error = new Error(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles PreconditionFailedException.
+     *
+     * @param ex the exception thrown when If-Match does not match the current version of the record
+     * @return ResponseEntity containing an Error object with 412 PRECONDITION FAILED
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Error> handlePreconditionFailed(PreconditionFailedException ex) {
+        count(ex, HttpStatus.PRECONDITION_FAILED);
+        Error error = new Error(HttpStatus.PRECONDITION_FAILED.value(), ex.getMessage(), LocalDateTime.now());
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles ObjectOptimisticLockingFailureException.
+     *
+     * @param ex the exception thrown when a record was changed concurrently
+     * @return ResponseEntity containing an Error object with 409 CONFLICT
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Error> handleOptimisticLocking(ObjectOptimisticLockingFailureException ex) {
+        count(ex, HttpStatus.CONFLICT);
+        Error error = new Error(HttpStatus.CONFLICT.value(), "The record was modified concurrently. Please retry.", LocalDateTime.now());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles HashingCapacityExceededException.
+     *
+     * @param ex the exception thrown when the password hashing pool is saturated
+     * @return ResponseEntity containing an Error object with 503 SERVICE UNAVAILABLE and a Retry-After header
+     */
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<Error> handleHashingCapacityExceeded(HashingCapacityExceededException ex) {
+        count(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        Error error = new Error(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+    }
+
+    /**
+     * Handles TooManyLoginAttemptsException.
+     *
+     * @param ex the exception thrown when a client or username exceeds the login rate limit
+     * @return ResponseEntity containing an Error object with 429 TOO MANY REQUESTS and a Retry-After header
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<Error> handleTooManyLoginAttempts(TooManyLoginAttemptsException ex) {
+        count(ex, HttpStatus.TOO_MANY_REQUESTS);
+        Error error = new Error(HttpStatus.TOO_MANY_REQUESTS.value(), ex.getMessage(), LocalDateTime.now());
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds)).body(error);
+    }
+
     /**
      * Handles validation errors for method arguments annotated with @Valid.
      *
@@ -92,6 +198,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
 
+        count(ex, HttpStatus.BAD_REQUEST);
         Map<String, String> errors = new HashMap<>();
 
         for (Object errorObj : ex.getBindingResult().getAllErrors()) {
@@ -113,6 +220,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<Error> handleDataIntegrity(DataIntegrityViolationException ex) {
         log.error("Database integrity violation", ex);
+        count(ex, HttpStatus.BAD_REQUEST);
         Error error = new Error(HttpStatus.BAD_REQUEST.value(), "Database error. Please check your input.", LocalDateTime.now());
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
@@ -126,7 +234,18 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Error> handleGeneric(Exception ex) {
         log.error("Unexpected error", ex);
+        count(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         Error error = new Error(HttpStatus.INTERNAL_SERVER_ERROR.value(), "An unexpected error occurred", LocalDateTime.now());
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
     }
+
+    /**
+     * Increments the exception counter for the handled exception.
+     *
+     * @param ex     the handled exception
+     * @param status the HTTP status returned for it
+     */
+    private void count(Exception ex, HttpStatus status) {
+        Counter.builder("api.exceptions").description("Exceptions mapped to error responses").tag("exception", ex.getClass().getSimpleName()).tag("status", String.valueOf(status.value())).register(meterRegistry).increment();
+    }
 }
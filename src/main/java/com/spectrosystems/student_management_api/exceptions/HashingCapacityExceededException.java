@@ -0,0 +1,7 @@
+package com.spectrosystems.student_management_api.exceptions;
+
+public class HashingCapacityExceededException extends RuntimeException {
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.spectrosystems.student_management_api.exceptions;
+
+public class InvalidFieldSelectionException extends RuntimeException {
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.spectrosystems.student_management_api.exceptions;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.spectrosystems.student_management_api.exceptions;
+
+public class InvalidPatchException extends RuntimeException {
+    public InvalidPatchException(String message) {
+        super(message);
+    }
+}
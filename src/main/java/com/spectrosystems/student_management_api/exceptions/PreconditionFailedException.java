@@ -0,0 +1,7 @@
+package com.spectrosystems.student_management_api.exceptions;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
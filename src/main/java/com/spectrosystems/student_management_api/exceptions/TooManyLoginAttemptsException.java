@@ -0,0 +1,15 @@
+package com.spectrosystems.student_management_api.exceptions;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class TooManyLoginAttemptsException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public TooManyLoginAttemptsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
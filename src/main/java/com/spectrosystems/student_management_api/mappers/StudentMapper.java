@@ -2,9 +2,19 @@ package com.spectrosystems.student_management_api.mappers;
 
 import com.spectrosystems.student_management_api.dtos.StudentRequest;
 import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.exceptions.InvalidFieldSelectionException;
 import com.spectrosystems.student_management_api.models.Student;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Mapper class for converting between Student entities and DTOs.
  * Provides methods to map StudentRequest to Student entity and
@@ -13,6 +23,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class StudentMapper {
 
+    /**
+     * Fields of StudentResponse that can be requested with {@code ?fields=}.
+     */
+    public static final List<String> SELECTABLE_FIELDS = List.of("id", "firstName", "lastName", "email", "dateOfBirth", "version", "createdAt", "updatedAt");
+
     /**
      * Converts a StudentRequest DTO to a Student entity.
      *
@@ -30,6 +45,70 @@ public class StudentMapper {
      * @return StudentResponse DTO containing student data
      */
     public static StudentResponse toResponse(Student student) {
-        return StudentResponse.builder().id(student.getId()).firstName(student.getFirstName()).lastName(student.getLastName()).email(student.getEmail()).dateOfBirth(student.getDateOfBirth()).build();
+        return StudentResponse.builder().id(student.getId()).firstName(student.getFirstName()).lastName(student.getLastName()).email(student.getEmail()).dateOfBirth(student.getDateOfBirth()).version(student.getVersion())
+                .createdAt(student.getCreatedAt()).updatedAt(student.getUpdatedAt()).build();
+    }
+
+    /**
+     * Parses a comma-separated field list such as {@code email,lastName}.
+     * The ID is always included, since it identifies the student and serves as the paging cursor.
+     *
+     * @param fields comma-separated field names
+     * @return requested fields in a stable order, starting with id
+     * @throws InvalidFieldSelectionException if a field name is unknown
+     */
+    public static Set<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        Arrays.stream(fields.split(",")).map(String::trim).filter(field -> !field.isEmpty()).forEach(field -> {
+            if (!SELECTABLE_FIELDS.contains(field)) {
+                throw new InvalidFieldSelectionException("Unknown field '" + field + "'. Selectable fields: " + String.join(",", SELECTABLE_FIELDS));
+            }
+            selected.add(field);
+        });
+        return selected;
+    }
+
+    /**
+     * Converts a projected row to a StudentResponse DTO, leaving fields that were not selected null.
+     *
+     * @param tuple row whose elements are aliased with StudentResponse field names
+     * @return StudentResponse DTO containing the selected fields
+     */
+    public static StudentResponse toResponse(Tuple tuple) {
+        StudentResponse response = new StudentResponse();
+        for (TupleElement<?> element : tuple.getElements()) {
+            Object value = tuple.get(element);
+            switch (element.getAlias()) {
+                case "id" -> response.setId((Long) value);
+                case "firstName" -> response.setFirstName((String) value);
+                case "lastName" -> response.setLastName((String) value);
+                case "email" -> response.setEmail((String) value);
+                case "dateOfBirth" -> response.setDateOfBirth((LocalDate) value);
+                case "version" -> response.setVersion((Long) value);
+                case "createdAt" -> response.setCreatedAt((Instant) value);
+                case "updatedAt" -> response.setUpdatedAt((Instant) value);
+                default -> throw new IllegalArgumentException("Unsupported field " + element.getAlias());
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Copies only the selected fields of a full StudentResponse.
+     *
+     * @param response full StudentResponse DTO
+     * @param fields   fields to keep, as returned by {@link #parseFields(String)}
+     * @return StudentResponse DTO containing only the selected fields
+     */
+    public static StudentResponse select(StudentResponse response, Set<String> fields) {
+        return StudentResponse.builder().id(response.getId())
+                .firstName(fields.contains("firstName") ? response.getFirstName() : null)
+                .lastName(fields.contains("lastName") ? response.getLastName() : null)
+                .email(fields.contains("email") ? response.getEmail() : null)
+                .dateOfBirth(fields.contains("dateOfBirth") ? response.getDateOfBirth() : null)
+                .version(fields.contains("version") ? response.getVersion() : null)
+                .createdAt(fields.contains("createdAt") ? response.getCreatedAt() : null)
+                .updatedAt(fields.contains("updatedAt") ? response.getUpdatedAt() : null).build();
     }
 }
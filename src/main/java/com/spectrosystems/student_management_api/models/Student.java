@@ -5,26 +5,47 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
  * Entity representing a student in the system.
  * Maps to the "students" table in the database.
+ * Deleted students are kept as tombstones (see {@link #deletedAt}) so the change feed can report
+ * deletions; all JPQL and Criteria queries only see students that are not deleted.
+ * Updates only write the columns that changed.
  */
 @Data
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "students")
+@Table(
+        name = "students",
+        indexes = {
+                @Index(name = "idx_students_last_name", columnList = "lastName"),
+                @Index(name = "idx_students_date_of_birth", columnList = "dateOfBirth"),
+                @Index(name = "idx_students_created_at", columnList = "createdAt"),
+                @Index(name = "idx_students_updated_at_id", columnList = "updatedAt, id")
+        }
+)
+@SQLRestriction("deleted_at is null")
+@DynamicUpdate
+@EntityListeners(StudentEntityListener.class)
 public class Student {
 
     /**
      * Unique identifier for the student.
+     * Generated from a pooled sequence so inserts can be sent as JDBC batches.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     long id;
 
     /**
@@ -48,4 +69,31 @@ public class Student {
      * Date of birth of the student.
      */
     LocalDate dateOfBirth;
+
+    /**
+     * Version of the student record, incremented on every update.
+     * Used for optimistic locking and as the basis of the resource ETag.
+     */
+    @Version
+    long version;
+
+    /**
+     * Time the student was created.
+     */
+    @CreationTimestamp
+    @Column(updatable = false)
+    Instant createdAt;
+
+    /**
+     * Time the student was last created, updated or deleted.
+     * Serves as the watermark of the change feed.
+     */
+    @UpdateTimestamp
+    Instant updatedAt;
+
+    /**
+     * Time the student was deleted, or null while the student exists.
+     * A deleted student keeps its row as a tombstone with the email cleared, so the email can be reused.
+     */
+    Instant deletedAt;
 }
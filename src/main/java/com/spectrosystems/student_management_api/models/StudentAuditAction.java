@@ -0,0 +1,8 @@
+package com.spectrosystems.student_management_api.models;
+
+/**
+ * Enum representing the kinds of student mutations recorded in the audit trail.
+ */
+public enum StudentAuditAction {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,60 @@
+package com.spectrosystems.student_management_api.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Entity representing one entry of the student audit trail: who created, updated or deleted which student, and when.
+ * Maps to the append-only "student_audit" table. Entries are inserted in batches by the audit writer and never changed.
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Immutable
+@Table(
+        name = "student_audit",
+        indexes = {
+                @Index(name = "idx_student_audit_student_id_id", columnList = "studentId, id")
+        }
+)
+public class StudentAuditEvent {
+
+    /**
+     * Unique identifier of the entry, increasing in the order entries were written.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    long id;
+
+    /**
+     * Time the mutation was made.
+     */
+    @Column(nullable = false)
+    Instant occurredAt;
+
+    /**
+     * Username of the user who made the mutation.
+     */
+    @Column(nullable = false)
+    String principal;
+
+    /**
+     * Kind of mutation.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    StudentAuditAction action;
+
+    /**
+     * ID of the student that was mutated.
+     */
+    long studentId;
+}
@@ -0,0 +1,26 @@
+package com.spectrosystems.student_management_api.models;
+
+import com.spectrosystems.student_management_api.services.StudentTableVersion;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that records every insert, update and delete of a Student
+ * in the {@link StudentTableVersion} counter.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentEntityListener {
+
+    private final StudentTableVersion studentTableVersion;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Student student) {
+        studentTableVersion.increment();
+    }
+}
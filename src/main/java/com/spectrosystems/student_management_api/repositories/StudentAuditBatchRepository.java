@@ -0,0 +1,19 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.models.StudentAuditEvent;
+
+import java.util.List;
+
+/**
+ * Repository fragment for appending audit entries in bulk.
+ */
+public interface StudentAuditBatchRepository {
+
+    /**
+     * Inserts the entries as a single JDBC batch, bypassing the persistence context.
+     * Their IDs are assigned by the database and not set on the given objects.
+     *
+     * @param events entries to insert
+     */
+    void insertAll(List<StudentAuditEvent> events);
+}
@@ -0,0 +1,30 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.models.StudentAuditEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link StudentAuditBatchRepository}, picked up by Spring Data through the {@code Impl} suffix.
+ * Identity IDs would stop Hibernate from batching inserts, so the rows are written with a plain JDBC batch instead.
+ */
+@RequiredArgsConstructor
+public class StudentAuditBatchRepositoryImpl implements StudentAuditBatchRepository {
+
+    private static final String INSERT_SQL = "insert into student_audit (occurred_at, principal, action, student_id) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<StudentAuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (statement, event) -> {
+            statement.setObject(1, event.getOccurredAt().atOffset(ZoneOffset.UTC));
+            statement.setString(2, event.getPrincipal());
+            statement.setString(3, event.getAction().name());
+            statement.setLong(4, event.getStudentId());
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.models.StudentAuditEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for reading the student audit trail.
+ * Entries are appended through {@link StudentAuditBatchRepository}.
+ */
+@Repository
+public interface StudentAuditRepository extends JpaRepository<StudentAuditEvent, Long>, StudentAuditBatchRepository {
+
+    /**
+     * Finds audit entries whose ID is greater than the given cursor, ordered by ID.
+     *
+     * @param id    the cursor; only entries with a greater ID are returned
+     * @param limit maximum number of entries to return
+     * @return list of entries following the cursor
+     */
+    List<StudentAuditEvent> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /**
+     * Finds the audit entries of one student whose ID is greater than the given cursor, ordered by ID.
+     * Seeks on the (student_id, id) index.
+     *
+     * @param studentId ID of the student
+     * @param id        the cursor; only entries with a greater ID are returned
+     * @param limit     maximum number of entries to return
+     * @return list of the student's entries following the cursor
+     */
+    List<StudentAuditEvent> findByStudentIdAndIdGreaterThanOrderByIdAsc(long studentId, long id, Limit limit);
+}
@@ -0,0 +1,27 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.models.Student;
+import jakarta.persistence.Tuple;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment for reading only selected student columns.
+ * The selected fields vary per request, so the projection is built dynamically instead of
+ * being declared as a fixed interface projection.
+ */
+public interface StudentFieldsRepository {
+
+    /**
+     * Selects the given fields of the students matching the specification, ordered by ID.
+     * Only the requested columns appear in the generated SQL, and no entities are loaded into the persistence context.
+     *
+     * @param spec   filter to apply, or null to select every student
+     * @param fields entity attribute names to select; each tuple element is aliased with its attribute name
+     * @param limit  maximum number of rows to return, or 0 for no limit
+     * @return one tuple per matching student
+     */
+    List<Tuple> findFields(Specification<Student> spec, Collection<String> fields, int limit);
+}
@@ -0,0 +1,48 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.models.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link StudentFieldsRepository}, picked up by Spring Data through the {@code Impl} suffix.
+ */
+public class StudentFieldsRepositoryImpl implements StudentFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findFields(Specification<Student> spec, Collection<String> fields, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Student> root = query.from(Student.class);
+
+        List<Selection<?>> selections = fields.stream().<Selection<?>>map(field -> root.get(field).alias(field)).toList();
+        query.multiselect(selections);
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+}
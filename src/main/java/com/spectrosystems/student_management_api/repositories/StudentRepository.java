@@ -1,14 +1,132 @@
 package com.spectrosystems.student_management_api.repositories;
 
 import com.spectrosystems.student_management_api.models.Student;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for performing CRUD operations on Student entities.
- * Extends JpaRepository to provide standard database operations.
+ * Extends JpaRepository to provide standard database operations and
+ * JpaSpecificationExecutor for filtered searches (see {@link StudentSpecifications}), and
+ * StudentFieldsRepository for reading only selected columns.
  */
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpecificationExecutor<Student>, StudentFieldsRepository {
+
+    /**
+     * Finds students whose ID is greater than the given cursor, ordered by ID.
+     * Seeks directly on the primary key index, so the cost does not grow with page depth.
+     *
+     * @param id    the cursor; only students with a greater ID are returned
+     * @param limit maximum number of students to return
+     * @return list of students following the cursor
+     */
+    List<Student> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    /**
+     * Streams every student ordered by ID, fetching rows from the JDBC cursor in batches.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @return stream over all students
+     */
+    @Query("select s from Student s order by s.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Student> streamAllByOrderByIdAsc();
+
+    /**
+     * Returns which of the given emails already belong to a student.
+     *
+     * @param emails the emails to check
+     * @return the subset of emails that are already taken
+     */
+    @Query("select s.email from Student s where s.email in :emails")
+    Set<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Finds students changed after the given (updatedAt, id) position and no later than {@code until},
+     * ordered by update time and ID. Deleted students (tombstones) are included, so this query is
+     * native and bypasses the entity's deleted filter.
+     *
+     * @param since   update time of the last change already seen
+     * @param afterId ID of the last change already seen at exactly {@code since}
+     * @param until   upper bound of the update time, inclusive
+     * @param limit   maximum number of students to return
+     * @return list of created, updated and deleted students in change order
+     */
+    @Query(value = "select * from students s where (s.updated_at > :since or (s.updated_at = :since and s.id > :afterId)) and s.updated_at <= :until order by s.updated_at, s.id limit :limit", nativeQuery = true)
+    List<Student> findChanges(@Param("since") Instant since, @Param("afterId") long afterId, @Param("until") Instant until, @Param("limit") int limit);
+
+    /**
+     * Returns which of the given IDs belong to a student that is not deleted, and locks those rows until
+     * the transaction ends. A statement run on the returned IDs in the same transaction therefore changes
+     * exactly those rows, even if other transactions try to update or delete them meanwhile.
+     * Rows are locked in ID order so concurrent callers cannot deadlock on each other.
+     *
+     * @param ids the IDs to check
+     * @return the subset of IDs that exist, in ascending order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s.id from Student s where s.id in :ids order by s.id")
+    List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes a student with a single statement, keeping it as a tombstone with the email cleared.
+     * The entity is not loaded, so entity listeners do not run and callers must record the change in
+     * {@code StudentTableVersion} themselves.
+     *
+     * @param id  ID of the student to delete
+     * @param now deletion time, also used as the update time
+     * @return 1 if the student was deleted, 0 if it does not exist or was already deleted
+     */
+    @Modifying
+    @Query("update Student s set s.deletedAt = :now, s.updatedAt = :now, s.email = null, s.version = s.version + 1 where s.id = :id and s.deletedAt is null")
+    int softDeleteById(@Param("id") long id, @Param("now") Instant now);
+
+    /**
+     * Deletes the given students with a single statement, keeping them as tombstones like
+     * {@code StudentService.deleteStudent}. Entities are not loaded, so entity listeners do not run
+     * and callers must record the change in {@code StudentTableVersion} themselves.
+     *
+     * @param ids IDs of the students to delete
+     * @param now deletion time, also used as the update time
+     * @return number of students deleted
+     */
+    @Modifying
+    @Query("update Student s set s.deletedAt = :now, s.updatedAt = :now, s.email = null, s.version = s.version + 1 where s.id in :ids and s.deletedAt is null")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
 
+    /**
+     * Updates the given students with a single statement. Null values leave the column unchanged.
+     * Entities are not loaded, so entity listeners do not run and callers must record the change in
+     * {@code StudentTableVersion} themselves.
+     *
+     * @param ids         IDs of the students to update
+     * @param firstName   new first name, or null
+     * @param lastName    new last name, or null
+     * @param dateOfBirth new date of birth, or null
+     * @param now         update time
+     * @return number of students updated
+     */
+    @Modifying
+    @Query("update Student s set s.firstName = coalesce(:firstName, s.firstName), s.lastName = coalesce(:lastName, s.lastName), "
+            + "s.dateOfBirth = coalesce(:dateOfBirth, s.dateOfBirth), s.updatedAt = :now, s.version = s.version + 1 where s.id in :ids and s.deletedAt is null")
+    int updateByIdIn(@Param("ids") Collection<Long> ids, @Param("firstName") String firstName, @Param("lastName") String lastName,
+                     @Param("dateOfBirth") LocalDate dateOfBirth, @Param("now") Instant now);
 }
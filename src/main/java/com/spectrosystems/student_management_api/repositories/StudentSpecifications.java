@@ -0,0 +1,52 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.dtos.StudentSearchRequest;
+import com.spectrosystems.student_management_api.models.Student;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds JPA specifications for student searches.
+ * Only the filters that are actually set become predicates, so each query can use the
+ * index of the column it filters on.
+ */
+public final class StudentSpecifications {
+
+    private StudentSpecifications() {
+    }
+
+    /**
+     * Creates a specification matching the given search filters, restricted to IDs after the cursor.
+     *
+     * @param search the search filters
+     * @param after  only students with a greater ID are matched
+     * @return specification combining all set filters with AND
+     */
+    public static Specification<Student> matching(StudentSearchRequest search, long after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.greaterThan(root.get("id"), after));
+            if (search.getLastName() != null && !search.getLastName().isBlank()) {
+                // Prefix match without functions on the column keeps it sargable
+                predicates.add(cb.like(root.get("lastName"), escapeLike(search.getLastName()) + "%", '\\'));
+            }
+            if (search.getEmail() != null && !search.getEmail().isBlank()) {
+                predicates.add(cb.equal(root.get("email"), search.getEmail()));
+            }
+            if (search.getBornFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dateOfBirth"), search.getBornFrom()));
+            }
+            if (search.getBornTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dateOfBirth"), search.getBornTo()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -2,8 +2,11 @@ package com.spectrosystems.student_management_api.repositories;
 
 import com.spectrosystems.student_management_api.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,4 +31,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return an Optional containing the User if found, or empty otherwise
      */
     Optional<User> findByEmail(String email);
+
+    /**
+     * Finds users whose username or email equals the given login in a single query.
+     * Both columns are covered by their unique indexes. At most two users can match,
+     * when one user's username equals another user's email.
+     *
+     * @param login the username or email to search for
+     * @return the matching users, the one matched by username first
+     */
+    @Query("select u from User u where u.username = :login or u.email = :login order by case when u.username = :login then 0 else 1 end")
+    List<User> findByUsernameOrEmail(@Param("login") String login);
 }
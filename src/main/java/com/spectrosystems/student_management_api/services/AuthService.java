@@ -1,9 +1,12 @@
 package com.spectrosystems.student_management_api.services;
 
+import com.spectrosystems.student_management_api.configs.JwtRevocationList;
 import com.spectrosystems.student_management_api.configs.JwtService;
+import com.spectrosystems.student_management_api.configs.LoginRateLimiter;
 import com.spectrosystems.student_management_api.dtos.AuthenticationResponse;
 import com.spectrosystems.student_management_api.dtos.RegisterRequest;
 import com.spectrosystems.student_management_api.exceptions.InvalidCredentialsException;
+import com.spectrosystems.student_management_api.exceptions.TooManyLoginAttemptsException;
 import com.spectrosystems.student_management_api.exceptions.UserNotFoundException;
 import com.spectrosystems.student_management_api.models.User;
 import com.spectrosystems.student_management_api.exceptions.DuplicateEmailException;
@@ -11,9 +14,14 @@ import com.spectrosystems.student_management_api.exceptions.DuplicateUsernameExc
 import com.spectrosystems.student_management_api.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -28,28 +36,57 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final JwtRevocationList jwtRevocationList;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * Authenticates a user using username or email and password.
      *
      * @param usernameOrEmail the username or email of the user
      * @param password        the password of the user
+     * @param clientIp        address the request came from
      * @return AuthenticationResponse containing a JWT token if authentication succeeds
-     * @throws UserNotFoundException       if no user exists with the given username or email
-     * @throws InvalidCredentialsException if the password is incorrect
+     * @throws TooManyLoginAttemptsException if the client or account has exceeded the login rate limit
+     * @throws UserNotFoundException         if no user exists with the given username or email
+     * @throws InvalidCredentialsException   if the password is incorrect
      */
-    public AuthenticationResponse login(String usernameOrEmail, String password) {
-        var user = userRepository.findByUsername(usernameOrEmail).or(() -> userRepository.findByEmail(usernameOrEmail)).orElseThrow(() -> new UserNotFoundException("User not found"));
+    public AuthenticationResponse login(String usernameOrEmail, String password, String clientIp) {
+        // Reject before any database or hashing work is done; the account limit is checked once the user is loaded
+        loginRateLimiter.checkClientAttempt(clientIp);
 
+        Authentication authentication;
         try {
-            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), password));
+            // The authentication provider loads the user by username or email in one query and returns it as the principal
+            authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(usernameOrEmail, password));
+        } catch (UsernameNotFoundException ex) {
+            throw new UserNotFoundException("User not found");
         } catch (BadCredentialsException ex) {
             throw new InvalidCredentialsException("Invalid Credentials");
+        } catch (InternalAuthenticationServiceException ex) {
+            // The provider wraps exceptions thrown while loading the user, including the account rate limit
+            if (ex.getCause() instanceof TooManyLoginAttemptsException tooManyAttempts) {
+                throw tooManyAttempts;
+            }
+            throw ex;
         }
+        var user = (User) authentication.getPrincipal();
         var jwtToken = jwtService.generateToken(user);
         return AuthenticationResponse.builder().token(jwtToken).build();
     }
 
+    /**
+     * Logs out the current user by revoking every token issued to them so far.
+     *
+     * @throws InvalidCredentialsException if the request is not authenticated
+     */
+    public void logout() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            throw new InvalidCredentialsException("Not authenticated");
+        }
+        jwtRevocationList.revokeUser(authentication.getName());
+    }
+
     /**
      * Registers a new user and returns a JWT token.
      *
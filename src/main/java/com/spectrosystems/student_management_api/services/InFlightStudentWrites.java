@@ -0,0 +1,52 @@
+package com.spectrosystems.student_management_api.services;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the start times of student write transactions that have not finished yet.
+ * Long transactions, such as bulk updates and import chunks, stamp {@code updated_at} well before they commit.
+ * The change feed must not move its watermark past such a stamp while the rows are still invisible,
+ * so it reads {@link #oldestStart()} and stays below it.
+ * Only covers transactions of this application instance.
+ */
+@Component
+public class InFlightStudentWrites {
+
+    private final Map<Object, Instant> starts = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the current transaction as a student write until it completes.
+     * Must be called before the transaction stamps any {@code updated_at}. Calling it again in the
+     * same transaction keeps the first start time. Does nothing outside a transaction.
+     */
+    public void begin() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        Object token = new Object();
+        starts.put(token, Instant.now());
+        TransactionSynchronizationManager.bindResource(this, token);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(InFlightStudentWrites.this);
+                starts.remove(token);
+            }
+        });
+    }
+
+    /**
+     * Returns the start time of the oldest unfinished student write transaction.
+     *
+     * @return the oldest start time, or null if no write transaction is in flight
+     */
+    public Instant oldestStart() {
+        return starts.values().stream().min(Instant::compareTo).orElse(null);
+    }
+}
@@ -0,0 +1,278 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
+import com.spectrosystems.student_management_api.models.StudentAuditEvent;
+import com.spectrosystems.student_management_api.repositories.StudentAuditRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous writer of the student audit trail.
+ * Mutations are recorded on the request thread into a bounded, lock-free queue and written by a single
+ * background thread in JDBC batches of up to {@code batch-size} rows, so auditing adds no database round
+ * trip to a request. The writer flushes whatever has queued up every {@code flush-interval}, or as soon as
+ * a full batch is waiting. Entries recorded inside a transaction are only queued once it commits.
+ * <p>
+ * When the queue is full, the {@code overflow-policy} decides: {@code WAIT} makes the caller wait up to
+ * {@code offer-timeout} for the writer to make room, {@code DROP} discards the entry immediately. Either way
+ * a discarded entry is counted in {@code audit.events{result=dropped}} and logged.
+ * On shutdown the queue is drained before the connection pool closes.
+ */
+@Slf4j
+@Component
+public class StudentAuditLog implements SmartLifecycle {
+
+    /**
+     * What to do with a new entry when the queue is full.
+     */
+    public enum OverflowPolicy {
+        WAIT, DROP
+    }
+
+    /**
+     * Principal recorded for mutations made without an authenticated user, e.g. by startup tasks.
+     */
+    static final String SYSTEM_PRINCIPAL = "system";
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final StudentAuditRepository studentAuditRepository;
+    private final ConcurrentLinkedQueue<StudentAuditEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final Duration shutdownTimeout;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public StudentAuditLog(StudentAuditRepository studentAuditRepository, MeterRegistry meterRegistry,
+                           @Value("${students.audit.capacity:10000}") int capacity,
+                           @Value("${students.audit.batch-size:500}") int batchSize,
+                           @Value("${students.audit.flush-interval:200ms}") Duration flushInterval,
+                           @Value("${students.audit.overflow-policy:WAIT}") OverflowPolicy overflowPolicy,
+                           @Value("${students.audit.offer-timeout:1s}") Duration offerTimeout,
+                           @Value("${students.audit.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.studentAuditRepository = studentAuditRepository;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.writtenCounter = Counter.builder("audit.events").description("Audit entries by outcome").tag("result", "written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events").description("Audit entries by outcome").tag("result", "dropped").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.events").description("Audit entries by outcome").tag("result", "failed").register(meterRegistry);
+        this.batchTimer = Timer.builder("audit.batch").description("Time to insert one batch of audit entries").register(meterRegistry);
+        Gauge.builder("audit.queue.size", size, AtomicInteger::get).description("Audit entries waiting to be written").register(meterRegistry);
+    }
+
+    /**
+     * Records a mutation of one student by the current user.
+     *
+     * @param action    kind of mutation
+     * @param studentId ID of the mutated student
+     */
+    public void record(StudentAuditAction action, long studentId) {
+        record(action, List.of(studentId));
+    }
+
+    /**
+     * Records the same mutation of several students by the current user.
+     * Inside a transaction the entries are queued after it commits and discarded if it rolls back.
+     *
+     * @param action     kind of mutation
+     * @param studentIds IDs of the mutated students
+     */
+    public void record(StudentAuditAction action, Collection<Long> studentIds) {
+        // Read the principal and time now, on the request thread, rather than when the entries are written
+        String principal = currentPrincipal();
+        Instant now = Instant.now();
+        List<StudentAuditEvent> events = studentIds.stream().map(studentId -> StudentAuditEvent.builder().occurredAt(now).principal(principal).action(action).studentId(studentId).build()).toList();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(this::offer);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(StudentAuditLog.this::offer);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of entries waiting to be written.
+     *
+     * @return current queue size
+     */
+    public int pending() {
+        return size.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::drain, "student-audit-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops accepting work and waits for the writer to drain the queue.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (size.get() > 0) {
+            log.warn("Audit writer stopped with {} entries not written", size.get());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the web server (phases {@code DEFAULT_PHASE - 1024} and {@code - 2048}),
+     * so entries from requests finishing during graceful shutdown are still written.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Adds an entry to the queue, applying the overflow policy when the queue is full.
+     */
+    boolean offer(StudentAuditEvent event) {
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (true) {
+            int current = size.get();
+            if (current < capacity) {
+                // Reserve a slot first so the bound holds without locking the queue
+                if (size.compareAndSet(current, current + 1)) {
+                    queue.offer(event);
+                    if (current + 1 >= batchSize) {
+                        wakeWriter();
+                    }
+                    return true;
+                }
+                continue;
+            }
+            if (overflowPolicy == OverflowPolicy.DROP || !running || System.nanoTime() - deadline >= 0) {
+                drop(event);
+                return false;
+            }
+            wakeWriter();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void drop(StudentAuditEvent event) {
+        droppedCounter.increment();
+        // Log the first drop and then every thousandth, so a sustained overload does not flood the log
+        if ((long) droppedCounter.count() % 1000 == 1) {
+            log.warn("Audit queue full; dropped {} {} by {} ({} entries dropped so far)", event.getAction(), event.getStudentId(), event.getPrincipal(), (long) droppedCounter.count());
+        }
+    }
+
+    private void wakeWriter() {
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Writer loop: writes full batches back to back, and otherwise whatever has queued up once per flush interval.
+     * Keeps going after {@link #stop()} until the queue is empty.
+     */
+    private void drain() {
+        List<StudentAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || size.get() > 0) {
+            StudentAuditEvent event;
+            while (batch.size() < batchSize && (event = queue.poll()) != null) {
+                size.decrementAndGet();
+                batch.add(event);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            write(batch);
+            batch.clear();
+            if (running && size.get() < batchSize) {
+                // Let a partial batch fill up for one interval instead of writing entries one by one
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * Inserts one batch, retrying a few times so a brief database outage does not lose entries.
+     */
+    private void write(List<StudentAuditEvent> batch) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                batchTimer.record(() -> studentAuditRepository.insertAll(batch));
+                writtenCounter.increment(batch.size());
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    failedCounter.increment(batch.size());
+                    log.error("Could not write {} audit entries after {} attempts", batch.size(), attempt, ex);
+                    return;
+                }
+                log.warn("Writing {} audit entries failed; retrying", batch.size(), ex);
+                LockSupport.parkNanos(flushIntervalNanos * attempt);
+            }
+        }
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || authentication.getName() == null ? SYSTEM_PRINCIPAL : authentication.getName();
+    }
+}
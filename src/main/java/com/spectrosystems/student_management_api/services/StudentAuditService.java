@@ -0,0 +1,56 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.dtos.StudentAuditEventResponse;
+import com.spectrosystems.student_management_api.dtos.StudentAuditPageResponse;
+import com.spectrosystems.student_management_api.models.StudentAuditEvent;
+import com.spectrosystems.student_management_api.repositories.StudentAuditRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service class for reading the student audit trail.
+ * Entries are written asynchronously by {@link StudentAuditLog}, so a mutation shows up here
+ * shortly after it commits rather than immediately.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentAuditService {
+
+    /**
+     * Upper bound on the number of entries returned in a single page.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final StudentAuditRepository studentAuditRepository;
+
+    /**
+     * Retrieves a page of audit entries in the order they were written, starting after the given cursor.
+     *
+     * @param studentId ID of the student whose entries to return, or null for all students
+     * @param after     ID of the last entry from the previous page, or null for the first page
+     * @param limit     requested page size, clamped to 1..{@link #MAX_PAGE_SIZE}
+     * @return page of audit entries with the cursor for the next page
+     */
+    public StudentAuditPageResponse retrieveAuditPage(Long studentId, Long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long cursor = after == null ? 0L : after;
+
+        // Fetch one extra row to find out whether another page exists
+        Limit fetch = Limit.of(pageSize + 1);
+        List<StudentAuditEvent> events = studentId == null ? studentAuditRepository.findByIdGreaterThanOrderByIdAsc(cursor, fetch) : studentAuditRepository.findByStudentIdAndIdGreaterThanOrderByIdAsc(studentId, cursor, fetch);
+
+        boolean hasMore = events.size() > pageSize;
+        if (hasMore) {
+            events = events.subList(0, pageSize);
+        }
+        Long nextCursor = hasMore ? events.get(events.size() - 1).getId() : null;
+        return StudentAuditPageResponse.builder().events(events.stream().map(StudentAuditService::toResponse).toList()).nextCursor(nextCursor).build();
+    }
+
+    private static StudentAuditEventResponse toResponse(StudentAuditEvent event) {
+        return StudentAuditEventResponse.builder().id(event.getId()).occurredAt(event.getOccurredAt()).principal(event.getPrincipal()).action(event.getAction()).studentId(event.getStudentId()).build();
+    }
+}
@@ -0,0 +1,108 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.configs.CacheConfig;
+import com.spectrosystems.student_management_api.dtos.StudentBulkResponse;
+import com.spectrosystems.student_management_api.dtos.StudentBulkUpdateRequest;
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Service class for updating and deleting many students at once.
+ * Works with set-based statements on chunks of IDs inside one transaction, so no entities are
+ * loaded: each chunk costs one query to find and lock the existing IDs and one update.
+ * The row locks are held until commit, so the students reported, evicted and audited are exactly the
+ * ones the statements changed, even when other requests update or delete them concurrently.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentBulkService {
+
+    /**
+     * Maximum number of IDs bound to a single statement.
+     */
+    static final int CHUNK_SIZE = 1000;
+
+    private final StudentRepository studentRepository;
+    private final StudentTableVersion studentTableVersion;
+    private final InFlightStudentWrites inFlightStudentWrites;
+    private final CacheManager cacheManager;
+    private final StudentAuditLog studentAuditLog;
+
+    /**
+     * Deletes the given students, keeping them as tombstones for the change feed.
+     *
+     * @param ids IDs of the students to delete; duplicates are ignored
+     * @return number of students deleted and the IDs that were not found
+     */
+    @Transactional
+    public StudentBulkResponse deleteStudents(List<Long> ids) {
+        // Every row is stamped with this time but only becomes visible at commit; keep the change feed behind it
+        inFlightStudentWrites.begin();
+        Instant now = Instant.now();
+        return apply(ids, StudentAuditAction.DELETED, chunk -> studentRepository.softDeleteByIdIn(chunk, now));
+    }
+
+    /**
+     * Applies the same change to the given students.
+     *
+     * @param request IDs of the students to update and the fields to change; null fields are kept
+     * @return number of students updated and the IDs that were not found
+     */
+    @Transactional
+    public StudentBulkResponse updateStudents(StudentBulkUpdateRequest request) {
+        // Every row is stamped with this time but only becomes visible at commit; keep the change feed behind it
+        inFlightStudentWrites.begin();
+        Instant now = Instant.now();
+        return apply(request.getIds(), StudentAuditAction.UPDATED, chunk -> studentRepository.updateByIdIn(chunk, request.getFirstName(), request.getLastName(), request.getDateOfBirth(), now));
+    }
+
+    /**
+     * Runs the statement for every chunk of existing IDs and records the change.
+     * The IDs are locked when they are looked up, so the statement changes every one of them.
+     */
+    private StudentBulkResponse apply(List<Long> ids, StudentAuditAction action, ToIntFunction<List<Long>> statement) {
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(ids));
+        Set<Long> found = new HashSet<>();
+        int affected = 0;
+        for (int start = 0; start < requested.size(); start += CHUNK_SIZE) {
+            List<Long> existing = studentRepository.lockExistingIds(requested.subList(start, Math.min(start + CHUNK_SIZE, requested.size())));
+            if (!existing.isEmpty()) {
+                found.addAll(existing);
+                affected += statement.applyAsInt(existing);
+            }
+        }
+
+        if (affected > 0) {
+            // Bulk statements bypass the entity listener, so record the change here
+            studentTableVersion.increment();
+            evict(found);
+            studentAuditLog.record(action, found);
+        }
+        return StudentBulkResponse.builder().affected(affected).notFound(requested.stream().filter(id -> !found.contains(id)).toList()).build();
+    }
+
+    /**
+     * Evicts the changed students from the students cache. The cache manager is transaction-aware (see
+     * {@link CacheConfig}), so the eviction happens once the transaction commits and a concurrent read
+     * cannot cache the old state again before the change is visible.
+     */
+    private void evict(Set<Long> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.STUDENTS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+}
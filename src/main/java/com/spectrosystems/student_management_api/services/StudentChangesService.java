@@ -0,0 +1,111 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.dtos.StudentChangesResponse;
+import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.mappers.StudentMapper;
+import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for incremental synchronization of students.
+ * Returns the students created, updated or deleted since a given position, ordered by
+ * (updatedAt, id), so clients can stay in sync without re-downloading the whole table.
+ * <p>
+ * A change only becomes visible when its transaction commits, which can be later than its {@code updated_at}.
+ * The feed therefore only reads up to a watermark, and a change that commits after the watermark has passed
+ * its {@code updated_at} would be missed. The watermark stays below the start of every write transaction
+ * registered in {@link InFlightStudentWrites}, which covers the long ones (bulk updates and deletes, import
+ * chunks). It also trails the current time by {@code commit-lag}. That lag is the bound for every other write:
+ * single-student writes and writes by other application instances must commit within it.
+ */
+@Service
+public class StudentChangesService {
+
+    private final StudentRepository studentRepository;
+    private final InFlightStudentWrites inFlightStudentWrites;
+    private final Duration commitLag;
+
+    /**
+     * @param studentRepository     repository to read changes from
+     * @param inFlightStudentWrites long write transactions the watermark must stay below
+     * @param commitLag             how far behind the current time the feed stays, so that short transactions
+     *                              still in flight when a batch is read cannot commit changes before its position
+     */
+    public StudentChangesService(StudentRepository studentRepository, InFlightStudentWrites inFlightStudentWrites, @Value("${students.changes.commit-lag:2s}") Duration commitLag) {
+        this.studentRepository = studentRepository;
+        this.inFlightStudentWrites = inFlightStudentWrites;
+        this.commitLag = commitLag;
+    }
+
+    /**
+     * Retrieves the students changed after the given position.
+     * A student changed several times is reported once, in its latest state.
+     *
+     * @param since   update time returned by the previous call, or null to start from the beginning
+     * @param afterId ID returned by the previous call, or null if it returned none; then every change at exactly
+     *                {@code since} counts as already seen
+     * @param limit   requested batch size, clamped to 1..{@link StudentService#MAX_PAGE_SIZE}
+     * @return changed students, deleted IDs and the position for the next call
+     */
+    public StudentChangesResponse retrieveChanges(Instant since, Long afterId, int limit) {
+        int batchSize = Math.max(1, Math.min(limit, StudentService.MAX_PAGE_SIZE));
+        Instant from = since == null ? Instant.EPOCH : since;
+        long fromId = afterId != null ? afterId : since == null ? 0L : Long.MAX_VALUE;
+        Instant until = watermark();
+
+        // Fetch one extra row to find out whether more changes are waiting
+        List<Student> students = studentRepository.findChanges(from, fromId, until, batchSize + 1);
+        boolean hasMore = students.size() > batchSize;
+        if (hasMore) {
+            students = students.subList(0, batchSize);
+        }
+
+        List<StudentResponse> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (Student student : students) {
+            if (student.getDeletedAt() != null) {
+                deleted.add(student.getId());
+            } else {
+                changed.add(StudentMapper.toResponse(student));
+            }
+        }
+
+        StudentChangesResponse.StudentChangesResponseBuilder response = StudentChangesResponse.builder().changed(changed).deleted(deleted).hasMore(hasMore);
+        if (hasMore) {
+            // Resume right after the last row of this batch
+            Student last = students.get(students.size() - 1);
+            return response.since(last.getUpdatedAt()).afterId(last.getId()).build();
+        }
+        if (until.isAfter(from)) {
+            // Everything up to and including the watermark has been read; without an afterId the next call
+            // starts strictly after it, so changes stamped exactly at the watermark are not returned again
+            return response.since(until).build();
+        }
+        return response.since(from).afterId(afterId).build();
+    }
+
+    /**
+     * Latest update time that is safe to read up to: behind the current time by the commit lag, and before
+     * every row a still running write transaction may have stamped.
+     */
+    private Instant watermark() {
+        Instant until = Instant.now().minus(commitLag);
+        Instant oldestWrite = inFlightStudentWrites.oldestStart();
+        if (oldestWrite != null) {
+            // Stamps are stored with microsecond precision and are never earlier than their transaction's start
+            Instant beforeOldestWrite = oldestWrite.truncatedTo(ChronoUnit.MICROS).minus(1, ChronoUnit.MICROS);
+            if (beforeOldestWrite.isBefore(until)) {
+                return beforeOldestWrite;
+            }
+        }
+        return until;
+    }
+}
@@ -0,0 +1,62 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spectrosystems.student_management_api.mappers.StudentMapper;
+import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service class for exporting the full student table.
+ * Writes students one by one as newline-delimited JSON so memory use stays flat
+ * regardless of the number of rows.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentExportService {
+
+    /**
+     * Number of rows written between two flushes of the output stream.
+     */
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes every student as one JSON object per line to the given output stream.
+     *
+     * @param out the stream to write to; it is flushed but not closed
+     * @throws IOException if writing to the stream fails
+     */
+    @Transactional(readOnly = true)
+    public void exportStudents(OutputStream out) throws IOException {
+        try (Stream<Student> students = studentRepository.streamAllByOrderByIdAsc()) {
+            Iterator<Student> iterator = students.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                Student student = iterator.next();
+                out.write(objectMapper.writeValueAsBytes(StudentMapper.toResponse(student)));
+                out.write('\n');
+
+                // Detach so the persistence context does not grow with the table
+                entityManager.detach(student);
+
+                // Flush after the first row so the client starts receiving data immediately
+                if (written++ % FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+    }
+}
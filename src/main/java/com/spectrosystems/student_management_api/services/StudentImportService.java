@@ -0,0 +1,355 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.dtos.StudentImportResponse;
+import com.spectrosystems.student_management_api.dtos.StudentImportResult;
+import com.spectrosystems.student_management_api.dtos.StudentRequest;
+import com.spectrosystems.student_management_api.exceptions.InvalidImportFileException;
+import com.spectrosystems.student_management_api.mappers.StudentMapper;
+import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for importing students in bulk.
+ * Validates each row, rejects duplicate emails up front and inserts the remaining
+ * rows in chunks, each chunk committed in its own transaction with batched inserts.
+ */
+@Service
+public class StudentImportService {
+
+    private static final String CSV_HEADER = "firstName,lastName,email,dateOfBirth";
+
+    private final StudentRepository studentRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final InFlightStudentWrites inFlightStudentWrites;
+    private final StudentAuditLog studentAuditLog;
+    private final int chunkSize;
+
+    public StudentImportService(StudentRepository studentRepository, Validator validator, PlatformTransactionManager transactionManager, InFlightStudentWrites inFlightStudentWrites, StudentAuditLog studentAuditLog, @Value("${students.import.chunk-size:1000}") int chunkSize) {
+        this.studentRepository = studentRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inFlightStudentWrites = inFlightStudentWrites;
+        this.studentAuditLog = studentAuditLog;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Imports the given students.
+     *
+     * @param requests rows to import; null entries are reported as invalid
+     * @return summary with the outcome of every row
+     */
+    public StudentImportResponse importStudents(List<StudentRequest> requests) {
+        StudentImportResult[] results = new StudentImportResult[requests.size()];
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, requests.size());
+            List<Integer> pending = new ArrayList<>();
+
+            for (int i = start; i < end; i++) {
+                StudentRequest request = requests.get(i);
+                String violations = validate(request);
+                if (violations != null) {
+                    results[i] = rejected(i, StudentImportResult.Status.INVALID, violations);
+                } else if (!seenEmails.add(request.getEmail())) {
+                    results[i] = rejected(i, StudentImportResult.Status.DUPLICATE_EMAIL, "Email appears more than once in the import");
+                } else {
+                    pending.add(i);
+                }
+            }
+
+            // One query per chunk instead of one per row to find emails that are already taken
+            Set<String> existingEmails = pending.isEmpty() ? Set.of() : studentRepository.findEmailsIn(pending.stream().map(i -> requests.get(i).getEmail()).toList());
+            List<Integer> toSave = new ArrayList<>();
+            for (int i : pending) {
+                if (existingEmails.contains(requests.get(i).getEmail())) {
+                    results[i] = rejected(i, StudentImportResult.Status.DUPLICATE_EMAIL, "Email already exists");
+                } else {
+                    toSave.add(i);
+                }
+            }
+
+            saveChunk(requests, toSave, results);
+        }
+
+        int created = (int) Arrays.stream(results).filter(result -> result.getStatus() == StudentImportResult.Status.CREATED).count();
+        return StudentImportResponse.builder().created(created).failed(results.length - created).results(Arrays.asList(results)).build();
+    }
+
+    /**
+     * Imports students from CSV content (RFC 4180).
+     * The first record must be the header {@value #CSV_HEADER}; blank lines are skipped. Fields may be quoted,
+     * and quoted fields may contain commas, line breaks and doubled quotes ({@code ""}).
+     * Each result's {@code row} is the line of the file the record starts on, counting the header as line 1.
+     *
+     * @param reader reader over the CSV content
+     * @return summary with the outcome of every data row
+     * @throws IOException                if the content cannot be read
+     * @throws InvalidImportFileException if the header row is missing or wrong
+     */
+    public StudentImportResponse importStudentsCsv(Reader reader) throws IOException {
+        List<StudentRequest> requests = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        Map<Integer, String> parseErrors = new HashMap<>();
+
+        CsvRecordReader csv = new CsvRecordReader(new BufferedReader(reader));
+        List<String> header = csv.next();
+        if (header == null || csv.error() != null || !String.join(",", header).replace(" ", "").equalsIgnoreCase(CSV_HEADER)) {
+            throw new InvalidImportFileException("CSV header must be: " + CSV_HEADER);
+        }
+
+        List<String> columns;
+        while ((columns = csv.next()) != null) {
+            if (csv.error() == null && columns.size() == 1 && columns.get(0).isEmpty()) {
+                continue;
+            }
+            lineNumbers.add(csv.line());
+            if (csv.error() != null) {
+                parseErrors.put(requests.size(), csv.error());
+                requests.add(null);
+                continue;
+            }
+            if (columns.size() != 4) {
+                parseErrors.put(requests.size(), "Expected 4 columns but found " + columns.size());
+                requests.add(null);
+                continue;
+            }
+            try {
+                requests.add(StudentRequest.builder().firstName(columns.get(0)).lastName(columns.get(1)).email(columns.get(2)).dateOfBirth(LocalDate.parse(columns.get(3))).build());
+            } catch (DateTimeParseException ex) {
+                parseErrors.put(requests.size(), "dateOfBirth: Invalid date, expected yyyy-MM-dd");
+                requests.add(null);
+            }
+        }
+
+        StudentImportResponse response = importStudents(requests);
+        for (int i = 0; i < lineNumbers.size(); i++) {
+            response.getResults().get(i).setRow(lineNumbers.get(i));
+        }
+        parseErrors.forEach((index, message) -> response.getResults().get(index).setMessage(message));
+        return response;
+    }
+
+    /**
+     * Saves one chunk in a single transaction so the inserts are sent as a JDBC batch.
+     * If the chunk fails (e.g. an email was taken concurrently), rows are retried one by one
+     * so only the offending rows are rejected.
+     */
+    private void saveChunk(List<StudentRequest> requests, List<Integer> indexes, StudentImportResult[] results) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        List<Student> students = indexes.stream().map(i -> StudentMapper.toStudent(requests.get(i))).toList();
+        try {
+            List<Student> saved = transactionTemplate.execute(status -> {
+                // A chunk's rows are stamped as they are inserted but only become visible at commit; keep the change feed behind them
+                inFlightStudentWrites.begin();
+                return studentRepository.saveAllAndFlush(students);
+            });
+            studentAuditLog.record(StudentAuditAction.CREATED, saved.stream().map(Student::getId).toList());
+            for (int j = 0; j < indexes.size(); j++) {
+                results[indexes.get(j)] = created(indexes.get(j), saved.get(j).getId());
+            }
+        } catch (DataIntegrityViolationException chunkEx) {
+            for (int i : indexes) {
+                try {
+                    Student saved = transactionTemplate.execute(status -> studentRepository.saveAndFlush(StudentMapper.toStudent(requests.get(i))));
+                    studentAuditLog.record(StudentAuditAction.CREATED, saved.getId());
+                    results[i] = created(i, saved.getId());
+                } catch (DataIntegrityViolationException ex) {
+                    // Check if the exception is caused by duplicate email
+                    if (ex.getMostSpecificCause().getMessage().toLowerCase().contains("email")) {
+                        results[i] = rejected(i, StudentImportResult.Status.DUPLICATE_EMAIL, "Email already exists");
+                    } else {
+                        results[i] = rejected(i, StudentImportResult.Status.FAILED, "Database error. Please check your input.");
+                    }
+                }
+            }
+        }
+    }
+
+    private String validate(StudentRequest request) {
+        if (request == null) {
+            return "Row is empty";
+        }
+        Set<ConstraintViolation<StudentRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(violation -> violation.getPropertyPath() + ": " + violation.getMessage()).sorted().collect(Collectors.joining("; "));
+    }
+
+    private static StudentImportResult created(int index, long id) {
+        return StudentImportResult.builder().row(index + 1).status(StudentImportResult.Status.CREATED).id(id).build();
+    }
+
+    private static StudentImportResult rejected(int index, StudentImportResult.Status status, String message) {
+        return StudentImportResult.builder().row(index + 1).status(status).message(message).build();
+    }
+
+    /**
+     * Reads CSV records one at a time, keeping track of the line each record starts on.
+     * Unquoted fields are trimmed; quoted fields are kept as written, with spaces allowed around the quotes.
+     * A malformed record is returned with {@link #error()} set and reading resumes on the next line.
+     */
+    private static final class CsvRecordReader {
+
+        private static final int NONE = -2;
+
+        private final Reader reader;
+        private int nextLine = 1;
+        private int pushedBack = NONE;
+        private int line;
+        private String error;
+
+        CsvRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Line on which the record last returned by {@link #next()} starts.
+         */
+        int line() {
+            return line;
+        }
+
+        /**
+         * Why the record last returned by {@link #next()} is malformed, or null if it is well-formed.
+         */
+        String error() {
+            return error;
+        }
+
+        /**
+         * Reads the next record.
+         *
+         * @return the record's fields, or null at the end of the input
+         */
+        List<String> next() throws IOException {
+            line = nextLine;
+            error = null;
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            while (true) {
+                if (c == '"' && field.toString().isBlank()) {
+                    field.setLength(0);
+                    c = readQuoted(field);
+                    if (error != null) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    while (c == ' ' || c == '\t') {
+                        c = read();
+                    }
+                    if (c != ',' && c != '\r' && c != '\n' && c != -1) {
+                        error = "Unexpected character after closing quote";
+                        skipLine(c);
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    fields.add(field.toString());
+                } else if (c == ',' || c == '\r' || c == '\n' || c == -1) {
+                    fields.add(field.toString().trim());
+                } else {
+                    field.append((char) c);
+                    c = read();
+                    continue;
+                }
+
+                if (c == ',') {
+                    field.setLength(0);
+                    c = read();
+                    if (c == '\r' || c == '\n' || c == -1) {
+                        // Trailing comma: the record ends with an empty field
+                        fields.add("");
+                        endRecord(c);
+                        return fields;
+                    }
+                    continue;
+                }
+                endRecord(c);
+                return fields;
+            }
+        }
+
+        /**
+         * Reads a quoted field after its opening quote, up to and including the closing quote.
+         *
+         * @return the character following the closing quote
+         */
+        private int readQuoted(StringBuilder field) throws IOException {
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    error = "Quoted field is not closed";
+                    return c;
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following != '"') {
+                        return following;
+                    }
+                }
+                field.append((char) c);
+            }
+        }
+
+        private void endRecord(int c) throws IOException {
+            if (c == '\r') {
+                int following = read();
+                if (following != '\n') {
+                    unread(following);
+                }
+            }
+        }
+
+        private void skipLine(int c) throws IOException {
+            while (c != '\n' && c != -1) {
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            int c;
+            if (pushedBack != NONE) {
+                c = pushedBack;
+                pushedBack = NONE;
+            } else {
+                c = reader.read();
+            }
+            if (c == '\n') {
+                nextLine++;
+            }
+            return c;
+        }
+
+        private void unread(int c) {
+            if (c == '\n') {
+                nextLine--;
+            }
+            pushedBack = c;
+        }
+    }
+}
@@ -1,27 +1,63 @@
 package com.spectrosystems.student_management_api.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.spectrosystems.student_management_api.configs.CacheConfig;
+import com.spectrosystems.student_management_api.dtos.StudentPageResponse;
 import com.spectrosystems.student_management_api.dtos.StudentRequest;
 import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.dtos.StudentSearchRequest;
 import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
 import com.spectrosystems.student_management_api.exceptions.DuplicateEmailException;
+import com.spectrosystems.student_management_api.exceptions.InvalidPatchException;
+import com.spectrosystems.student_management_api.exceptions.PreconditionFailedException;
 import com.spectrosystems.student_management_api.exceptions.StudentNotFoundException;
 import com.spectrosystems.student_management_api.mappers.StudentMapper;
 import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import com.spectrosystems.student_management_api.repositories.StudentSpecifications;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing student operations.
  * Handles business logic for creating, retrieving, updating, and deleting students.
+ * Every mutation is recorded in the audit trail through {@link StudentAuditLog}.
  */
 @Service
 @RequiredArgsConstructor
 public class StudentService {
 
+    /**
+     * Upper bound on the number of students returned in a single page.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final StudentRepository studentRepository;
+    private final StudentTableVersion studentTableVersion;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final StudentAuditLog studentAuditLog;
 
     /**
      * Retrieves all students from the repository.
@@ -35,13 +71,101 @@ public class StudentService {
         return students.stream().map(StudentMapper::toResponse).toList();
     }
 
+    /**
+     * Retrieves a page of students ordered by ID, starting after the given cursor.
+     * Uses a keyset (seek) query so every page costs the same regardless of depth.
+     *
+     * @param after ID of the last student from the previous page, or null for the first page
+     * @param limit requested page size, clamped to 1..{@link #MAX_PAGE_SIZE}
+     * @return page of students with the cursor for the next page
+     */
+    public StudentPageResponse retrieveStudentsPage(Long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long cursor = after == null ? 0L : after;
+
+        // Fetch one extra row to find out whether another page exists
+        List<Student> students = studentRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(pageSize + 1));
+        return toPage(students.stream().map(StudentMapper::toResponse).toList(), pageSize);
+    }
+
+    /**
+     * Retrieves only the selected fields of all students, ordered by ID.
+     * The SQL selects just the requested columns and no entities are loaded.
+     *
+     * @param fields fields to return, as returned by {@link StudentMapper#parseFields(String)}
+     * @return list of students as StudentResponse DTOs with only the selected fields set
+     */
+    public List<StudentResponse> retrieveAllStudents(Set<String> fields) {
+        return studentRepository.findFields(null, fields, 0).stream().map(StudentMapper::toResponse).toList();
+    }
+
+    /**
+     * Retrieves a page of students like {@link #retrieveStudentsPage(Long, int)}, selecting only the given fields.
+     *
+     * @param after  ID of the last student from the previous page, or null for the first page
+     * @param limit  requested page size, clamped to 1..{@link #MAX_PAGE_SIZE}
+     * @param fields fields to return, as returned by {@link StudentMapper#parseFields(String)}
+     * @return page of students with only the selected fields set, and the cursor for the next page
+     */
+    public StudentPageResponse retrieveStudentsPage(Long after, int limit, Set<String> fields) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long cursor = after == null ? 0L : after;
+
+        Specification<Student> afterCursor = (root, query, cb) -> cb.greaterThan(root.get("id"), cursor);
+        return toPage(studentRepository.findFields(afterCursor, fields, pageSize + 1).stream().map(StudentMapper::toResponse).toList(), pageSize);
+    }
+
+    /**
+     * Searches students by last name prefix, email and date of birth range.
+     * Results are ordered by ID and paged with the same cursor scheme as {@link #retrieveStudentsPage(Long, int)}.
+     *
+     * @param search the search filters, cursor and page size
+     * @return page of matching students with the cursor for the next page
+     */
+    public StudentPageResponse searchStudents(StudentSearchRequest search) {
+        int pageSize = Math.max(1, Math.min(search.getLimit(), MAX_PAGE_SIZE));
+        long cursor = search.getAfter() == null ? 0L : search.getAfter();
+
+        List<Student> students = studentRepository.findBy(StudentSpecifications.matching(search, cursor), query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+        return toPage(students.stream().map(StudentMapper::toResponse).toList(), pageSize);
+    }
+
+    /**
+     * Searches students like {@link #searchStudents(StudentSearchRequest)}, selecting only the given fields.
+     *
+     * @param search the search filters, cursor and page size
+     * @param fields fields to return, as returned by {@link StudentMapper#parseFields(String)}
+     * @return page of matching students with only the selected fields set, and the cursor for the next page
+     */
+    public StudentPageResponse searchStudents(StudentSearchRequest search, Set<String> fields) {
+        int pageSize = Math.max(1, Math.min(search.getLimit(), MAX_PAGE_SIZE));
+        long cursor = search.getAfter() == null ? 0L : search.getAfter();
+
+        return toPage(studentRepository.findFields(StudentSpecifications.matching(search, cursor), fields, pageSize + 1).stream().map(StudentMapper::toResponse).toList(), pageSize);
+    }
+
+    /**
+     * Builds a page from up to {@code pageSize + 1} students; the extra row only signals that more pages exist.
+     */
+    private StudentPageResponse toPage(List<StudentResponse> students, int pageSize) {
+        boolean hasMore = students.size() > pageSize;
+        if (hasMore) {
+            students = students.subList(0, pageSize);
+        }
+
+        Long nextCursor = hasMore ? students.get(students.size() - 1).getId() : null;
+        return StudentPageResponse.builder().students(students).nextCursor(nextCursor).build();
+    }
+
     /**
      * Retrieves a student by its ID.
+     * Results are served from the students cache when present.
      *
      * @param id ID of the student to retrieve
      * @return StudentResponse DTO of the requested student
      * @throws StudentNotFoundException if no student with the given ID exists
      */
+    @Cacheable(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
     public StudentResponse retrieveStudentById(Long id) {
         Student student = studentRepository.findById(id).orElseThrow(() -> new StudentNotFoundException("Student with id: " + id + " not found"));
         return StudentMapper.toResponse(student);
@@ -49,15 +173,18 @@ public class StudentService {
 
     /**
      * Creates a new student.
+     * The created student is put into the students cache.
      *
      * @param studentRequest StudentRequest DTO containing student data
      * @return StudentResponse DTO of the created student
      * @throws DuplicateEmailException if the email already exists in the database
      */
+    @CachePut(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#result.id")
     public StudentResponse createStudent(StudentRequest studentRequest) {
         Student student = StudentMapper.toStudent(studentRequest);
         try {
             Student savedStudent = studentRepository.save(student);
+            studentAuditLog.record(StudentAuditAction.CREATED, savedStudent.getId());
             return StudentMapper.toResponse(savedStudent);
         } catch (DataIntegrityViolationException ex) {
             // Check if the exception is caused by duplicate email
@@ -70,6 +197,9 @@ public class StudentService {
 
     /**
      * Updates an existing student by ID.
+     * Changes are applied to the loaded entity and written by dirty checking, so the UPDATE only
+     * sets the columns that changed and is skipped entirely if nothing changed.
+     * The cached entry for the student is replaced with the updated one once the transaction commits.
      *
      * @param id      ID of the student to update
      * @param request StudentRequest DTO containing updated student data
@@ -77,36 +207,125 @@ public class StudentService {
      * @throws StudentNotFoundException if no student with the given ID exists
      * @throws DuplicateEmailException  if the updated email already exists
      */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
     public StudentResponse updateStudent(Long id, StudentRequest request) {
-        Student student = studentRepository.findById(id).orElseThrow(() -> new StudentNotFoundException("Student with id: " + id + " not found"));
+        return applyUpdate(findStudent(id), request, null);
+    }
+
+    /**
+     * Updates an existing student by ID if it still has one of the expected versions (from If-Match).
+     * The cached entry for the student is replaced with the updated one once the transaction commits.
+     *
+     * @param id               ID of the student to update
+     * @param request          StudentRequest DTO containing updated student data
+     * @param expectedVersions versions the client based its change on, or null to update unconditionally
+     * @return StudentResponse DTO of the updated student
+     * @throws StudentNotFoundException    if no student with the given ID exists
+     * @throws PreconditionFailedException if the student was changed since the client read it
+     * @throws DuplicateEmailException     if the updated email already exists
+     */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
+    public StudentResponse updateStudent(Long id, StudentRequest request, Set<Long> expectedVersions) {
+        return applyUpdate(findStudent(id), request, expectedVersions);
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to a student: fields present in the patch are replaced,
+     * absent fields are kept. Only changed columns are written.
+     * The cached entry for the student is replaced with the updated one once the transaction commits.
+     *
+     * @param id               ID of the student to patch
+     * @param patch            JSON object with the fields to change
+     * @param expectedVersions versions the client based its change on, or null to patch unconditionally
+     * @return StudentResponse DTO of the patched student
+     * @throws StudentNotFoundException    if no student with the given ID exists
+     * @throws InvalidPatchException       if the patch is not an object, names an unknown field or yields an invalid student
+     * @throws PreconditionFailedException if the student was changed since the client read it
+     * @throws DuplicateEmailException     if the patched email already exists
+     */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
+    public StudentResponse patchStudent(Long id, JsonNode patch, Set<Long> expectedVersions) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("Merge patch must be a JSON object");
+        }
+        Student student = findStudent(id);
+        StudentRequest request = StudentRequest.builder().firstName(student.getFirstName()).lastName(student.getLastName()).email(student.getEmail()).dateOfBirth(student.getDateOfBirth()).build();
+        try {
+            objectMapper.readerForUpdating(request).with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).readValue(patch);
+        } catch (UnrecognizedPropertyException ex) {
+            throw new InvalidPatchException("Unknown field '" + ex.getPropertyName() + "'. Patchable fields: firstName,lastName,email,dateOfBirth");
+        } catch (IOException ex) {
+            throw new InvalidPatchException("Invalid merge patch: " + (ex instanceof JsonProcessingException jsonEx ? jsonEx.getOriginalMessage() : ex.getMessage()));
+        }
+
+        // A patch can set a required field to null, so the merged result is validated like a full request
+        Set<ConstraintViolation<StudentRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new InvalidPatchException(violations.stream().map(violation -> violation.getPropertyPath() + ": " + violation.getMessage()).sorted().collect(Collectors.joining("; ")));
+        }
+        return applyUpdate(student, request, expectedVersions);
+    }
+
+    private Student findStudent(Long id) {
+        return studentRepository.findById(id).orElseThrow(() -> new StudentNotFoundException("Student with id: " + id + " not found"));
+    }
+
+    /**
+     * Copies the request onto the managed student and flushes, checking the expected version first.
+     */
+    private StudentResponse applyUpdate(Student student, StudentRequest request, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(student.getVersion())) {
+            throw new PreconditionFailedException("Student with id: " + student.getId() + " has been modified; its current version is " + student.getVersion());
+        }
+        long version = student.getVersion();
         try {
             // Update fields of the existing student
             student.setFirstName(request.getFirstName());
             student.setLastName(request.getLastName());
             student.setEmail(request.getEmail());
             student.setDateOfBirth(request.getDateOfBirth());
-            Student updatedStudent = studentRepository.save(student);
-            return StudentMapper.toResponse(updatedStudent);
+            // Flush inside the try so a duplicate email is detected here, and the response carries the new version
+            studentRepository.flush();
+            // An update that changed nothing writes no row and bumps no version, so it is not audited
+            if (student.getVersion() != version) {
+                studentAuditLog.record(StudentAuditAction.UPDATED, student.getId());
+            }
+            return StudentMapper.toResponse(student);
         } catch (DataIntegrityViolationException ex) {
             // Check if the exception is caused by duplicate email
             if (ex.getMostSpecificCause().getMessage().toLowerCase().contains("email")) {
                 throw new DuplicateEmailException("Email already exists");
             }
             throw ex;
+        } catch (OptimisticLockingFailureException ex) {
+            // Another transaction committed between our read and write; with If-Match that is a failed precondition
+            if (expectedVersions != null) {
+                throw new PreconditionFailedException("Student with id: " + student.getId() + " has been modified concurrently");
+            }
+            throw ex;
         }
     }
 
     /**
-     * Deletes a student by ID.
+     * Deletes a student by ID with a single UPDATE statement; the affected row count tells whether it existed.
+     * The row is kept as a tombstone so the change feed can report the deletion; its email is
+     * cleared so it can be used by a new student. The student is evicted from the students cache once the transaction commits.
      *
      * @param id ID of the student to delete
      * @throws StudentNotFoundException if no student with the given ID exists
      */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS_CACHE, key = "#id")
     public void deleteStudent(Long id) {
-        // Check if the student exists before deletion
-        if (!studentRepository.existsById(id)) {
+        // Deleted students do not match, so a second delete is reported as not found
+        if (studentRepository.softDeleteById(id, Instant.now()) == 0) {
             throw new StudentNotFoundException("Student with id: " + id + " not found");
         }
-        studentRepository.deleteById(id);
+        // The statement bypasses the entity listener, so record the change here
+        studentTableVersion.increment();
+        studentAuditLog.record(StudentAuditAction.DELETED, id);
     }
 }
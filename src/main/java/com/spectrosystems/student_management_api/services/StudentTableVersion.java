@@ -0,0 +1,53 @@
+package com.spectrosystems.student_management_api.services;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap in-process version counter for the students table.
+ * Changes whenever a student is created, updated or deleted, so collection ETags can be
+ * computed without reading the table. The counter is bumped only after the writing
+ * transaction commits; readers must therefore take the version before they read data.
+ */
+@Component
+public class StudentTableVersion {
+
+    // Seeded with the start time so ETags issued before a restart never match afterwards
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Returns the current version of the students table.
+     *
+     * @return current table version
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Records a change to the students table.
+     * Inside a transaction the version is bumped once, after commit; otherwise immediately.
+     */
+    public void increment() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        // Register a single synchronization per transaction, however many rows it touches
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(StudentTableVersion.this);
+                    if (status == STATUS_COMMITTED) {
+                        version.incrementAndGet();
+                    }
+                }
+            });
+        }
+    }
+}
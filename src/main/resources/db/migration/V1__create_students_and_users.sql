@@ -0,0 +1,35 @@
+-- Initial schema, matching the Student and User entities
+
+create sequence students_seq start with 1 increment by 50;
+
+create table students (
+    id            bigint       not null,
+    first_name    varchar(255),
+    last_name     varchar(255),
+    email         varchar(255),
+    date_of_birth date,
+    version       bigint       not null,
+    created_at    timestamp(6) with time zone,
+    updated_at    timestamp(6) with time zone,
+    deleted_at    timestamp(6) with time zone,
+    primary key (id),
+    constraint uk_students_email unique (email)
+);
+
+create index idx_students_last_name on students (last_name);
+create index idx_students_date_of_birth on students (date_of_birth);
+create index idx_students_created_at on students (created_at);
+create index idx_students_updated_at_id on students (updated_at, id);
+
+create table users (
+    id         bigint generated by default as identity,
+    first_name varchar(255),
+    last_name  varchar(255),
+    username   varchar(255),
+    email      varchar(255),
+    password   varchar(255),
+    role       enum ('ADMIN', 'USER'),
+    primary key (id),
+    constraint uk_username unique (username),
+    constraint uk_email unique (email)
+);
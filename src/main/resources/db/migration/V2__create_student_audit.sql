@@ -0,0 +1,12 @@
+-- Audit trail of student mutations, written in batches by StudentAuditLog
+
+create table student_audit (
+    id          bigint generated by default as identity,
+    occurred_at timestamp(6) with time zone not null,
+    principal   varchar(255)                not null,
+    action      enum ('CREATED', 'UPDATED', 'DELETED') not null,
+    student_id  bigint                      not null,
+    primary key (id)
+);
+
+create index idx_student_audit_student_id_id on student_audit (student_id, id);
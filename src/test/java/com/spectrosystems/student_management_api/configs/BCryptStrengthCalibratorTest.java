@@ -0,0 +1,31 @@
+package com.spectrosystems.student_management_api.configs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class BCryptStrengthCalibratorTest {
+
+    @Test
+    void strengthFor_shouldDoubleCostPerStepWithoutExceedingTarget() {
+        // 60 ms at strength 10: 11 -> 120 ms, 12 -> 240 ms, 13 -> 480 ms
+        int strength = BCryptStrengthCalibrator.strengthFor(Duration.ofMillis(60).toNanos(), 10, Duration.ofMillis(250), 16);
+
+        Assertions.assertEquals(12, strength);
+    }
+
+    @Test
+    void strengthFor_whenMachineIsSlowerThanTarget_shouldKeepMinimumStrength() {
+        int strength = BCryptStrengthCalibrator.strengthFor(Duration.ofMillis(400).toNanos(), 10, Duration.ofMillis(250), 16);
+
+        Assertions.assertEquals(10, strength);
+    }
+
+    @Test
+    void strengthFor_whenMachineIsVeryFast_shouldCapAtMaximumStrength() {
+        int strength = BCryptStrengthCalibrator.strengthFor(Duration.ofNanos(10).toNanos(), 10, Duration.ofMillis(250), 14);
+
+        Assertions.assertEquals(14, strength);
+    }
+}
@@ -0,0 +1,67 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.spectrosystems.student_management_api.exceptions.HashingCapacityExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BoundedPasswordEncoderTest {
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.close();
+    }
+
+    @Test
+    void matches_shouldDelegateOnHashingPool() {
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        String hash = passwordEncoder.encode("secret123");
+
+        Assertions.assertTrue(passwordEncoder.matches("secret123", hash));
+        Assertions.assertFalse(passwordEncoder.matches("wrong", hash));
+    }
+
+    @Test
+    void matches_whenPoolAndQueueAreFull_shouldThrowHashingCapacityExceededException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(slow, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // One hash running, one queued
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("a", "hash"));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.matches("b", "hash"));
+        while (meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        Assertions.assertThrows(HashingCapacityExceededException.class, () -> {
+            passwordEncoder.matches("c", "hash");
+        });
+
+        release.countDown();
+        Assertions.assertTrue(running.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(queued.get(5, TimeUnit.SECONDS));
+        verify(slow, times(2)).matches(any(), any());
+    }
+}
@@ -0,0 +1,83 @@
+package com.spectrosystems.student_management_api.configs;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InMemoryRateLimitStoreTest {
+    private InMemoryRateLimitStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRateLimitStore(1000, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void tryConsume_whenBucketIsEmpty_shouldReturnWaitUntilNextToken() {
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(Duration.ZERO, store.tryConsume("ip:10.0.0.1", 3, Duration.ofMinutes(1)));
+        }
+
+        Duration retryAfter = store.tryConsume("ip:10.0.0.1", 3, Duration.ofMinutes(1));
+
+        Assertions.assertFalse(retryAfter.isZero());
+        Assertions.assertTrue(retryAfter.compareTo(Duration.ofSeconds(20)) <= 0);
+    }
+
+    @Test
+    void tryConsume_shouldKeepBucketsPerKey() {
+        Assertions.assertEquals(Duration.ZERO, store.tryConsume("user:ahmed", 1, Duration.ofMinutes(1)));
+        Assertions.assertFalse(store.tryConsume("user:ahmed", 1, Duration.ofMinutes(1)).isZero());
+
+        Assertions.assertEquals(Duration.ZERO, store.tryConsume("user:sarah", 1, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void tryConsume_whenKeysAreSprayed_shouldNotResetDrainingBucket() {
+        InMemoryRateLimitStore smallStore = new InMemoryRateLimitStore(10, Duration.ofMinutes(15));
+        Assertions.assertEquals(Duration.ZERO, smallStore.tryConsume("user:ahmed", 1, Duration.ofMinutes(1)));
+
+        // Fill the store with other draining buckets, then keep spraying new keys
+        for (int i = 0; i < 100; i++) {
+            smallStore.tryConsume("user:spray" + i, 1, Duration.ofMinutes(1));
+        }
+
+        Assertions.assertFalse(smallStore.tryConsume("user:ahmed", 1, Duration.ofMinutes(1)).isZero());
+        Assertions.assertFalse(smallStore.tryConsume("user:newcomer", 1, Duration.ofMinutes(1)).isZero());
+    }
+
+    @Test
+    void tryConsume_whenStoreFullOfRefilledBuckets_shouldMakeRoomForNewKeys() throws InterruptedException {
+        InMemoryRateLimitStore smallStore = new InMemoryRateLimitStore(2, Duration.ofMinutes(15));
+        Assertions.assertEquals(Duration.ZERO, smallStore.tryConsume("user:ahmed", 1, Duration.ofMillis(20)));
+        Assertions.assertEquals(Duration.ZERO, smallStore.tryConsume("user:sarah", 1, Duration.ofMillis(20)));
+        Assertions.assertFalse(smallStore.tryConsume("user:omar", 1, Duration.ofMillis(20)).isZero());
+
+        Thread.sleep(50);
+
+        Assertions.assertEquals(Duration.ZERO, smallStore.tryConsume("user:omar", 1, Duration.ofMillis(20)));
+    }
+
+    @Test
+    void tryConsume_whenCalledConcurrently_shouldNeverGrantMoreThanCapacity() throws Exception {
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> {
+                if (store.tryConsume("ip:10.0.0.2", 50, Duration.ofHours(1)).isZero()) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(50, granted.get());
+    }
+}
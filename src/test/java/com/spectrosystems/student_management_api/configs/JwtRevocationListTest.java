@@ -0,0 +1,69 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.spectrosystems.student_management_api.models.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Date;
+
+import static org.mockito.Mockito.*;
+
+public class JwtRevocationListTest {
+    private JwtTokenCache jwtTokenCache;
+    private JwtRevocationList jwtRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenCache = Mockito.mock(JwtTokenCache.class);
+        jwtRevocationList = new JwtRevocationList(jwtTokenCache);
+    }
+
+    @Test
+    void isRevoked_whenTokenIssuedBeforeRevocation_shouldReturnTrue() {
+        JwtClaims claims = JwtClaims.builder().subject("ahmed").issuedAt(new Date(System.currentTimeMillis() - 60_000)).build();
+
+        jwtRevocationList.revokeUser("ahmed");
+
+        Assertions.assertTrue(jwtRevocationList.isRevoked(claims));
+        verify(jwtTokenCache, times(1)).evictUser("ahmed");
+    }
+
+    @Test
+    void isRevoked_whenTokenIssuedAfterRevocation_shouldReturnFalse() {
+        jwtRevocationList.revokeUser("ahmed");
+
+        JwtClaims claims = JwtClaims.builder().subject("ahmed").issuedAt(new Date(System.currentTimeMillis() + 60_000)).build();
+
+        Assertions.assertFalse(jwtRevocationList.isRevoked(claims));
+    }
+
+    @Test
+    void isRevoked_whenUserWasNotRevoked_shouldReturnFalse() {
+        JwtClaims claims = JwtClaims.builder().subject("ahmed").issuedAt(new Date()).build();
+
+        Assertions.assertFalse(jwtRevocationList.isRevoked(claims));
+    }
+
+    @Test
+    void isRevoked_whenUserLogsInAgainInTheSecondOfTheLogout_shouldOnlyRevokeTheOldToken() throws Exception {
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry());
+        User user = User.builder().username("ahmed").build();
+        // Start early in a second so the old token, the logout and the new token share it
+        while (System.currentTimeMillis() % 1000 > 500) {
+            Thread.sleep(10);
+        }
+
+        JwtClaims before = jwtService.parseToken(jwtService.generateToken(user));
+        Thread.sleep(5);
+        jwtRevocationList.revokeUser("ahmed");
+        Thread.sleep(5);
+        JwtClaims after = jwtService.parseToken(jwtService.generateToken(user));
+
+        Assertions.assertEquals(before.getIssuedAt().getTime() / 1000, after.getIssuedAt().getTime() / 1000);
+        Assertions.assertTrue(jwtRevocationList.isRevoked(before));
+        Assertions.assertFalse(jwtRevocationList.isRevoked(after));
+    }
+}
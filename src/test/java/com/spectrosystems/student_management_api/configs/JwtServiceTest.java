@@ -0,0 +1,74 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.spectrosystems.student_management_api.models.Role;
+import com.spectrosystems.student_management_api.models.User;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+public class JwtServiceTest {
+    private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(meterRegistry);
+        user = User.builder().id(1L).username("ahmed").email("ahmed@example.com").role(Role.USER).build();
+    }
+
+    @Test
+    void parseToken_whenTokenIsValid_shouldReturnClaims() {
+        String token = jwtService.generateToken(user);
+
+        JwtClaims claims = jwtService.parseToken(token);
+
+        Assertions.assertEquals("ahmed", claims.getSubject());
+        Assertions.assertTrue(claims.getExpiration().after(new Date()));
+        Assertions.assertTrue(jwtService.isTokenValid(claims, user));
+    }
+
+    @Test
+    void generateToken_whenUserHasRole_shouldEmbedRoleAndUserId() {
+        JwtClaims claims = jwtService.parseToken(jwtService.generateToken(user));
+
+        Assertions.assertEquals("USER", claims.getRole());
+        Assertions.assertEquals(1L, claims.getUserId());
+    }
+
+    @Test
+    void parseToken_whenTokenIsTampered_shouldThrowJwtException() {
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        Assertions.assertThrows(JwtException.class, () -> {
+            jwtService.parseToken(tampered);
+        });
+    }
+
+    @Test
+    void isTokenValid_whenTokenBelongsToAnotherUser_shouldReturnFalse() {
+        User other = User.builder().id(2L).username("other").role(Role.USER).build();
+
+        JwtClaims claims = jwtService.parseToken(jwtService.generateToken(user));
+
+        Assertions.assertFalse(jwtService.isTokenValid(claims, other));
+    }
+
+    @Test
+    void parseToken_shouldRecordSignAndParseTimers() {
+        String token = jwtService.generateToken(user);
+        jwtService.parseToken(token);
+        Assertions.assertThrows(JwtException.class, () -> {
+            jwtService.parseToken(token + "x");
+        });
+
+        Assertions.assertEquals(1, meterRegistry.get("jwt.sign").timer().count());
+        Assertions.assertEquals(2, meterRegistry.get("jwt.parse").timer().count());
+    }
+}
@@ -0,0 +1,42 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.spectrosystems.student_management_api.models.Role;
+import com.spectrosystems.student_management_api.models.User;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+
+public class JwtTokenCacheTest {
+    private JwtTokenCache jwtTokenCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenCache = new JwtTokenCache(100, Duration.ofMinutes(5));
+        user = User.builder().id(1L).username("ahmed").email("ahmed@example.com").role(Role.USER).build();
+    }
+
+    @Test
+    void get_whenTokenWasCached_shouldReturnUserDetailsAndRecordHit() {
+        jwtTokenCache.put("token", user, new Date(System.currentTimeMillis() + 60_000));
+
+        Assertions.assertEquals(user, jwtTokenCache.get("token"));
+        Assertions.assertEquals(1, jwtTokenCache.stats().hitCount());
+    }
+
+    @Test
+    void get_whenTokenWasNotCached_shouldReturnNullAndRecordMiss() {
+        Assertions.assertNull(jwtTokenCache.get("unknown"));
+        Assertions.assertEquals(1, jwtTokenCache.stats().missCount());
+    }
+
+    @Test
+    void get_whenTokenHasExpired_shouldReturnNull() {
+        jwtTokenCache.put("token", user, new Date(System.currentTimeMillis() - 1_000));
+
+        Assertions.assertNull(jwtTokenCache.get("token"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.spectrosystems.student_management_api.configs;
+
+import com.spectrosystems.student_management_api.exceptions.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class LoginRateLimiterTest {
+    private LoginRateLimiter loginRateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginRateLimiter = new LoginRateLimiter(new InMemoryRateLimitStore(1000, Duration.ofMinutes(15)), meterRegistry, true, 3, Duration.ofMinutes(1), 2, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void checkAccountAttempt_whenAccountExceedsLimit_shouldThrowAndCountRejection() {
+        loginRateLimiter.checkAccountAttempt(1L, "ahmed");
+        loginRateLimiter.checkAccountAttempt(1L, "ahmed");
+
+        Assertions.assertThrows(TooManyLoginAttemptsException.class, () -> {
+            loginRateLimiter.checkAccountAttempt(1L, "ahmed");
+        });
+        Assertions.assertEquals(1, meterRegistry.get("auth.login.rate_limited").tag("limit", "username").counter().count());
+    }
+
+    @Test
+    void checkAccountAttempt_whenUsernameAndEmailOfSameAccount_shouldShareOneBucket() {
+        loginRateLimiter.checkAccountAttempt(1L, "ahmed");
+        loginRateLimiter.checkAccountAttempt(1L, "ahmed@example.com");
+
+        Assertions.assertThrows(TooManyLoginAttemptsException.class, () -> {
+            loginRateLimiter.checkAccountAttempt(1L, "ahmed@example.com");
+        });
+        // Another account is not affected
+        loginRateLimiter.checkAccountAttempt(2L, "omar");
+    }
+
+    @Test
+    void checkAccountAttempt_whenLoginMatchesNoUser_shouldLimitTheLoginIgnoringCase() {
+        loginRateLimiter.checkAccountAttempt(null, "nobody");
+        loginRateLimiter.checkAccountAttempt(null, "Nobody");
+
+        Assertions.assertThrows(TooManyLoginAttemptsException.class, () -> {
+            loginRateLimiter.checkAccountAttempt(null, "NOBODY");
+        });
+    }
+
+    @Test
+    void checkClientAttempt_whenIpExceedsLimit_shouldThrowAndCountRejection() {
+        loginRateLimiter.checkClientAttempt("10.0.0.1");
+        loginRateLimiter.checkClientAttempt("10.0.0.1");
+        loginRateLimiter.checkClientAttempt("10.0.0.1");
+
+        TooManyLoginAttemptsException ex = Assertions.assertThrows(TooManyLoginAttemptsException.class, () -> {
+            loginRateLimiter.checkClientAttempt("10.0.0.1");
+        });
+        Assertions.assertFalse(ex.getRetryAfter().isZero());
+        Assertions.assertEquals(1, meterRegistry.get("auth.login.rate_limited").tag("limit", "ip").counter().count());
+    }
+
+    @Test
+    void checkAttempts_whenDisabled_shouldNeverReject() {
+        loginRateLimiter = new LoginRateLimiter(new InMemoryRateLimitStore(1000, Duration.ofMinutes(15)), meterRegistry, false, 1, Duration.ofMinutes(1), 1, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 5; i++) {
+            loginRateLimiter.checkClientAttempt("10.0.0.1");
+            loginRateLimiter.checkAccountAttempt(1L, "ahmed");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.spectrosystems.student_management_api.configs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class TimedPasswordEncoderTest {
+    private TimedPasswordEncoder passwordEncoder;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry);
+    }
+
+    @Test
+    void matches_shouldDelegateAndRecordTimers() {
+        String hash = passwordEncoder.encode("secret123");
+
+        Assertions.assertTrue(passwordEncoder.matches("secret123", hash));
+        Assertions.assertFalse(passwordEncoder.matches("wrong", hash));
+        Assertions.assertEquals(1, meterRegistry.get("password.encode").timer().count());
+        Assertions.assertEquals(2, meterRegistry.get("password.verify").timer().count());
+    }
+}
@@ -0,0 +1,136 @@
+package com.spectrosystems.student_management_api.controllers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.spectrosystems.student_management_api.dtos.StudentRequest;
+import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.exceptions.GlobalExceptionHandler;
+import com.spectrosystems.student_management_api.exceptions.PreconditionFailedException;
+import com.spectrosystems.student_management_api.services.StudentAuditService;
+import com.spectrosystems.student_management_api.services.StudentBulkService;
+import com.spectrosystems.student_management_api.services.StudentChangesService;
+import com.spectrosystems.student_management_api.services.StudentExportService;
+import com.spectrosystems.student_management_api.services.StudentImportService;
+import com.spectrosystems.student_management_api.services.StudentService;
+import com.spectrosystems.student_management_api.services.StudentTableVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class StudentControllerTest {
+    private static final String STUDENT_JSON = "{\"firstName\":\"Ahmed\",\"lastName\":\"Ashraf\",\"email\":\"ahmed@example.com\",\"dateOfBirth\":\"2002-04-03\"}";
+
+    private StudentService studentService;
+    private MockMvc mockMvc;
+    private StudentResponse student;
+
+    @BeforeEach
+    void setUp() {
+        studentService = Mockito.mock(StudentService.class);
+        StudentController controller = new StudentController(studentService, Mockito.mock(StudentExportService.class), Mockito.mock(StudentImportService.class),
+                Mockito.mock(StudentChangesService.class), Mockito.mock(StudentBulkService.class), Mockito.mock(StudentAuditService.class), Mockito.mock(StudentTableVersion.class));
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new GlobalExceptionHandler(new SimpleMeterRegistry()))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(builder.build()), new MappingJackson2CborHttpMessageConverter(builder.build().copyWith(new CBORFactory())),
+                        new MappingJackson2SmileHttpMessageConverter(builder.build().copyWith(new SmileFactory())))
+                .build();
+
+        student = StudentResponse.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).version(3L).build();
+        when(studentService.retrieveStudentById(1L)).thenReturn(student);
+        when(studentService.updateStudent(eq(1L), any(StudentRequest.class), any())).thenReturn(student);
+        when(studentService.patchStudent(eq(1L), any(JsonNode.class), any())).thenReturn(student);
+    }
+
+    @Test
+    void retrieveStudentById_shouldReturnStrongETagPerFormatAndVaryByAccept() throws Exception {
+        mockMvc.perform(get("/api/students/1")).andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"1-3\"")).andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+        mockMvc.perform(get("/api/students/1").accept(MediaType.APPLICATION_CBOR)).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR)).andExpect(header().string(HttpHeaders.ETAG, "\"1-3-cbor\""));
+        mockMvc.perform(get("/api/students/1").header(HttpHeaders.ACCEPT, "application/x-jackson-smile")).andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"1-3-smile\""));
+    }
+
+    @Test
+    void retrieveStudentById_whenAcceptRefusesOrPrefersFormats_shouldTagTheFormatActuallyWritten() throws Exception {
+        mockMvc.perform(get("/api/students/1").header(HttpHeaders.ACCEPT, "application/cbor;q=0, application/json")).andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""));
+        mockMvc.perform(get("/api/students/1").header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/cbor")).andExpect(header().string(HttpHeaders.ETAG, "\"1-3-cbor\""));
+        mockMvc.perform(get("/api/students/1").header(HttpHeaders.ACCEPT, "*/*")).andExpect(header().string(HttpHeaders.ETAG, "\"1-3\""));
+    }
+
+    @Test
+    void retrieveStudentById_whenIfNoneMatchesCurrentETag_shouldReturnNotModified() throws Exception {
+        mockMvc.perform(get("/api/students/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-3\"")).andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\"")).andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT)).andExpect(content().string(""));
+        mockMvc.perform(get("/api/students/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-2\"")).andExpect(status().isOk());
+    }
+
+    @Test
+    void retrieveStudentById_whenIfNoneMatchIsTheETagOfAnotherFormat_shouldReturnBody() throws Exception {
+        mockMvc.perform(get("/api/students/1").accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, "\"1-3\"")).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3-cbor\""));
+        mockMvc.perform(get("/api/students/1").accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, "\"1-3-cbor\"")).andExpect(status().isNotModified());
+    }
+
+    @Test
+    void updateStudent_whenIfMatchListsSeveralTags_shouldPassOnlyStrongTagsOfThisStudent() throws Exception {
+        mockMvc.perform(put("/api/students/1").contentType(MediaType.APPLICATION_JSON).content(STUDENT_JSON).header(HttpHeaders.IF_MATCH, "\"1-2\", W/\"1-4\", \"2-6\", \"1-5-cbor\", \"1-7-id.email\"")).andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-3\"")).andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+
+        verify(studentService, times(1)).updateStudent(eq(1L), any(StudentRequest.class), eq(Set.of(2L, 5L, 7L)));
+    }
+
+    @Test
+    void updateStudent_whenIfMatchIsAbsentOrWildcard_shouldUpdateUnconditionally() throws Exception {
+        mockMvc.perform(put("/api/students/1").contentType(MediaType.APPLICATION_JSON).content(STUDENT_JSON)).andExpect(status().isOk());
+        mockMvc.perform(put("/api/students/1").contentType(MediaType.APPLICATION_JSON).content(STUDENT_JSON).header(HttpHeaders.IF_MATCH, " * ")).andExpect(status().isOk());
+
+        verify(studentService, times(2)).updateStudent(eq(1L), any(StudentRequest.class), isNull());
+    }
+
+    @Test
+    void updateStudent_whenIfMatchIsMalformed_shouldExpectNoVersion() throws Exception {
+        mockMvc.perform(put("/api/students/1").contentType(MediaType.APPLICATION_JSON).content(STUDENT_JSON).header(HttpHeaders.IF_MATCH, "1-3, \"1-x\", \"\", \"1\", \"")).andExpect(status().isOk());
+
+        verify(studentService, times(1)).updateStudent(eq(1L), any(StudentRequest.class), eq(Set.of()));
+    }
+
+    @Test
+    void updateStudent_whenVersionDoesNotMatch_shouldReturnPreconditionFailed() throws Exception {
+        when(studentService.updateStudent(eq(1L), any(StudentRequest.class), eq(Set.of(2L)))).thenThrow(new PreconditionFailedException("Student with id: 1 has been modified"));
+
+        mockMvc.perform(put("/api/students/1").contentType(MediaType.APPLICATION_JSON).content(STUDENT_JSON).header(HttpHeaders.IF_MATCH, "\"1-2\"")).andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("Student with id: 1 has been modified"));
+    }
+
+    @Test
+    void patchStudent_whenVersionDoesNotMatch_shouldReturnPreconditionFailed() throws Exception {
+        when(studentService.patchStudent(eq(1L), any(JsonNode.class), eq(Set.of(2L)))).thenThrow(new PreconditionFailedException("Student with id: 1 has been modified"));
+
+        mockMvc.perform(patch("/api/students/1").contentType("application/merge-patch+json").content("{\"lastName\":\"Hassan\"}").header(HttpHeaders.IF_MATCH, "W/\"1-3\", \"1-2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void patchStudent_whenAcceptIsCbor_shouldReturnCborETag() throws Exception {
+        mockMvc.perform(patch("/api/students/1").contentType("application/merge-patch+json").content("{\"lastName\":\"Hassan\"}").accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_MATCH, "\"1-3-cbor\""))
+                .andExpect(status().isOk()).andExpect(header().string(HttpHeaders.ETAG, "\"1-3-cbor\""));
+
+        verify(studentService, times(1)).patchStudent(eq(1L), any(JsonNode.class), eq(Set.of(3L)));
+    }
+}
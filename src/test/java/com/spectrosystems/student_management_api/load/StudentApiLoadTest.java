@@ -0,0 +1,320 @@
+package com.spectrosystems.student_management_api.load;
+
+import com.spectrosystems.student_management_api.dtos.RegisterRequest;
+import com.spectrosystems.student_management_api.dtos.StudentImportResult;
+import com.spectrosystems.student_management_api.dtos.StudentRequest;
+import com.spectrosystems.student_management_api.models.Role;
+import com.spectrosystems.student_management_api.services.AuthService;
+import com.spectrosystems.student_management_api.services.StudentImportService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load test for the REST API, run in-process against the application on H2.
+ * Seeds students and users, then drives a mixed workload at each configured concurrency level and
+ * reports p50/p99/p999 latency and throughput per operation, plus connection pool wait time and
+ * peak active/pending connections. Full HdrHistogram percentile distributions are written to
+ * {@code target/load-test/}.
+ * <p>
+ * Responses 429 and 503 are load the application shed on purpose and are reported separately as
+ * {@code shed}; only other failures fail the test.
+ * <p>
+ * Tagged {@code load} and excluded from the default build; run with {@code mvn -Pload-test test}.
+ * Tunable through system properties: {@code load.students}, {@code load.users},
+ * {@code load.concurrency} (comma separated), {@code load.duration} (seconds per level) and
+ * {@code load.password-strength} (BCrypt strength, default 4 so logins measure the API rather than hashing).
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {"spring.jpa.show-sql=false", "security.login-rate-limit.enabled=false",
+        "security.password.strength=${load.password-strength:4}"})
+public class StudentApiLoadTest {
+
+    private static final String PASSWORD = "LoadTestPass123";
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\":(\\d+)");
+
+    /**
+     * Operations of the workload and their relative weights.
+     */
+    private enum Operation {
+        LOGIN(5), LIST(25), GET_BY_ID(40), CREATE(10), UPDATE(10), DELETE(10);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Outcome of a single request.
+     */
+    private enum Outcome {
+        OK, SHED, FAILED
+    }
+
+    private final int studentCount = Integer.getInteger("load.students", 10_000);
+    private final int userCount = Integer.getInteger("load.users", 10);
+    private final int durationSeconds = Integer.getInteger("load.duration", 20);
+    private final List<Integer> concurrencyLevels = Arrays.stream(System.getProperty("load.concurrency", "8,32,64").split(",")).map(String::trim).map(Integer::parseInt).toList();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private StudentImportService studentImportService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final AtomicLong uniqueSuffix = new AtomicLong();
+    private String adminToken;
+    private List<Long> seededIds;
+
+    @BeforeAll
+    void seed() {
+        adminToken = authService.register(registerRequest("loadadmin", Role.ADMIN)).getToken();
+        for (int i = 0; i < userCount; i++) {
+            authService.register(registerRequest("loaduser" + i, Role.USER));
+        }
+
+        List<StudentRequest> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            students.add(studentRequest("seed" + i + "@example.com"));
+        }
+        seededIds = studentImportService.importStudents(students).getResults().stream().map(StudentImportResult::getId).filter(Objects::nonNull).toList();
+        Assertions.assertEquals(studentCount, seededIds.size());
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        // Warm up the JIT, connection handling and caches before measuring
+        runLevel(concurrencyLevels.get(0), Math.max(2, durationSeconds / 4), false);
+
+        for (int concurrency : concurrencyLevels) {
+            long errors = runLevel(concurrency, durationSeconds, true);
+            // Shed requests (429/503) are reported but are the intended response to overload, not errors
+            Assertions.assertEquals(0, errors, "Requests failed at concurrency " + concurrency);
+        }
+    }
+
+    /**
+     * Runs the workload with the given number of concurrent clients and returns the number of failed requests,
+     * not counting shed ones.
+     */
+    private long runLevel(int concurrency, int seconds, boolean report) throws Exception {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3));
+        }
+        AtomicLong errors = new AtomicLong();
+        AtomicLong shed = new AtomicLong();
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        long acquireCount = acquire.count();
+        double acquireMillis = acquire.totalTime(TimeUnit.MILLISECONDS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        // Sample the pool gauges while the level runs to find the peak usage
+        AtomicLong peakActive = new AtomicLong();
+        AtomicLong peakPending = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakActive.accumulateAndGet((long) poolGauge("hikaricp.connections.active"), Math::max);
+            peakPending.accumulateAndGet((long) poolGauge("hikaricp.connections.pending"), Math::max);
+        }, 0, 50, TimeUnit.MILLISECONDS);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.submit(() -> {
+                Random random = ThreadLocalRandom.current();
+                // Each client only updates and deletes students it created itself
+                Deque<Long> ownStudents = new ArrayDeque<>();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = pick(random, ownStudents.isEmpty());
+                    long start = System.nanoTime();
+                    Outcome outcome = execute(operation, random, ownStudents);
+                    histograms.get(operation).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), TimeUnit.MINUTES.toMicros(1)));
+                    if (outcome == Outcome.SHED) {
+                        shed.incrementAndGet();
+                    } else if (outcome == Outcome.FAILED) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        workers.shutdown();
+        Assertions.assertTrue(workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS));
+        sampler.shutdownNow();
+
+        if (report) {
+            report(concurrency, seconds, histograms, errors.get(), shed.get());
+            long acquired = acquire.count() - acquireCount;
+            System.out.printf("pool: size %d, peak active %d, peak pending %d, mean wait %.3f ms over %d acquisitions%n", (long) poolGauge("hikaricp.connections.max"),
+                    peakActive.get(), peakPending.get(), acquired == 0 ? 0.0 : (acquire.totalTime(TimeUnit.MILLISECONDS) - acquireMillis) / acquired, acquired);
+        }
+        return errors.get();
+    }
+
+    private Outcome execute(Operation operation, Random random, Deque<Long> ownStudents) {
+        try {
+            switch (operation) {
+                case LOGIN -> {
+                    String username = "loaduser" + random.nextInt(userCount);
+                    return outcome(send(HttpRequest.newBuilder(uri("/api/v1/auth/login?usernameOrEmail=" + username + "&password=" + PASSWORD)).POST(HttpRequest.BodyPublishers.noBody())));
+                }
+                case LIST -> {
+                    long after = seededIds.get(random.nextInt(seededIds.size()));
+                    return outcome(send(authorized("/api/students?limit=50&after=" + after).GET()));
+                }
+                case GET_BY_ID -> {
+                    return outcome(send(authorized("/api/students/" + seededIds.get(random.nextInt(seededIds.size()))).GET()));
+                }
+                case CREATE -> {
+                    HttpResponse<String> response = send(authorized("/api/students").header("Content-Type", "application/json").POST(json(studentRequest("load" + uniqueSuffix.incrementAndGet() + "@example.com"))));
+                    Outcome outcome = outcome(response);
+                    if (outcome == Outcome.OK) {
+                        Matcher matcher = ID_PATTERN.matcher(response.body());
+                        if (matcher.find()) {
+                            ownStudents.add(Long.parseLong(matcher.group(1)));
+                        }
+                    }
+                    return outcome;
+                }
+                case UPDATE -> {
+                    StudentRequest request = studentRequest("load" + uniqueSuffix.incrementAndGet() + "@example.com");
+                    return outcome(send(authorized("/api/students/" + ownStudents.peekLast()).header("Content-Type", "application/json").PUT(json(request))));
+                }
+                case DELETE -> {
+                    return outcome(send(authorized("/api/students/" + ownStudents.pollFirst()).DELETE()));
+                }
+                default -> throw new IllegalStateException("Unknown operation " + operation);
+            }
+        } catch (IOException ex) {
+            return Outcome.FAILED;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Outcome.FAILED;
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Classifies a response: 429 (rate limited) and 503 (hashing pool full) are deliberate load shedding.
+     */
+    private static Outcome outcome(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status < 400) {
+            return Outcome.OK;
+        }
+        return status == 429 || status == 503 ? Outcome.SHED : Outcome.FAILED;
+    }
+
+    private double poolGauge(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    private static Operation pick(Random random, boolean noOwnStudents) {
+        int total = Arrays.stream(Operation.values()).mapToInt(operation -> operation.weight).sum();
+        int roll = random.nextInt(total);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                // Updates and deletes need a student created by this client first
+                return noOwnStudents && (operation == Operation.UPDATE || operation == Operation.DELETE) ? Operation.CREATE : operation;
+            }
+        }
+        return Operation.GET_BY_ID;
+    }
+
+    private void report(int concurrency, int seconds, Map<Operation, Histogram> histograms, long errors, long shed) throws IOException {
+        Path directory = Path.of("target", "load-test");
+        Files.createDirectories(directory);
+
+        Histogram total = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+        System.out.printf("%n=== concurrency %d, %ds, errors %d, shed %d ===%n", concurrency, seconds, errors, shed);
+        System.out.printf("%-10s %10s %10s %10s %10s %10s %10s%n", "operation", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            total.add(histogram);
+            printRow(entry.getKey().name(), histogram, seconds);
+            writeDistribution(directory.resolve("c" + concurrency + "-" + entry.getKey().name().toLowerCase() + ".hgrm"), histogram);
+        }
+        printRow("TOTAL", total, seconds);
+        writeDistribution(directory.resolve("c" + concurrency + "-total.hgrm"), total);
+    }
+
+    private static void printRow(String name, Histogram histogram, int seconds) {
+        System.out.printf("%-10s %10d %10.1f %10.2f %10.2f %10.2f %10.2f%n", name, histogram.getTotalCount(), histogram.getTotalCount() / (double) seconds,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            // Values are recorded in microseconds; scale to milliseconds in the output
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + adminToken);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static HttpRequest.BodyPublisher json(StudentRequest request) {
+        return HttpRequest.BodyPublishers.ofString("{\"firstName\":\"" + request.getFirstName() + "\",\"lastName\":\"" + request.getLastName() + "\",\"email\":\"" + request.getEmail() + "\",\"dateOfBirth\":\"" + request.getDateOfBirth() + "\"}");
+    }
+
+    private static StudentRequest studentRequest(String email) {
+        return StudentRequest.builder().firstName("Load").lastName("Tester").email(email).dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+    }
+
+    private static RegisterRequest registerRequest(String username, Role role) {
+        RegisterRequest request = new RegisterRequest();
+        request.setFirstName("Load");
+        request.setLastName("Tester");
+        request.setUsername(username);
+        request.setEmail(username + "@example.com");
+        request.setPassword(PASSWORD);
+        request.setRole(role);
+        return request;
+    }
+}
@@ -0,0 +1,140 @@
+package com.spectrosystems.student_management_api.load;
+
+import com.spectrosystems.student_management_api.StudentManagementApplication;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup benchmark for the {@code prod} profile on a large file-backed H2 database.
+ * Seeds the database once, then starts the application in a fresh JVM per run and reports the
+ * time until {@code /actuator/health} answers UP, alongside the startup time Spring Boot logs.
+ * The seeded database is kept in {@code target/startup-benchmark/} and reused by later runs.
+ * <p>
+ * Tagged {@code load} and excluded from the default build; run with
+ * {@code mvn -Pload-test test -Dtest=StudentStartupLoadTest}.
+ * Tunable through system properties: {@code load.startup.students} and {@code load.startup.runs}.
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class StudentStartupLoadTest {
+
+    private static final Pattern PORT_PATTERN = Pattern.compile("Tomcat started on port (\\d+)");
+    private static final Pattern STARTED_PATTERN = Pattern.compile("Started StudentManagementApplication in ([\\d.]+) seconds");
+
+    private final int studentCount = Integer.getInteger("load.startup.students", 1_000_000);
+    private final int runs = Integer.getInteger("load.startup.runs", 3);
+    private final Path dataDirectory = Path.of("target", "startup-benchmark").toAbsolutePath();
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    @BeforeAll
+    void seed() throws SQLException {
+        String url = "jdbc:h2:file:" + dataDirectory.resolve("student_management");
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", ""); Statement statement = connection.createStatement()) {
+            try (ResultSet count = statement.executeQuery("select count(*) from students")) {
+                count.next();
+                if (count.getLong(1) == studentCount) {
+                    return;
+                }
+            }
+            long start = System.nanoTime();
+            statement.execute("delete from students");
+            statement.execute("insert into students (id, first_name, last_name, email, date_of_birth, version, created_at, updated_at) "
+                    + "select x, 'Load', 'Tester', 'seed' || x || '@example.com', dateadd(day, -mod(x, 3650), date '2002-04-03'), 0, current_timestamp, current_timestamp "
+                    + "from system_range(1, " + studentCount + ")");
+            // Keep generated IDs clear of the seeded range
+            statement.execute("alter sequence students_seq restart with " + (studentCount + 1));
+            // Rewrite the file as a long-running database would have it, rather than as one huge append
+            statement.execute("shutdown compact");
+            System.out.printf("Seeded %d students in %ds%n", studentCount, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+        }
+    }
+
+    @Test
+    void timeToReady() throws Exception {
+        List<Long> readyMillis = new ArrayList<>();
+        System.out.printf("%n=== startup, prod profile, %d students, %.0fMB database ===%n", studentCount, Files.size(dataDirectory.resolve("student_management.mv.db")) / 1e6);
+        System.out.printf("%-6s %15s %15s%n", "run", "spring boot s", "ready ms");
+        for (int run = 1; run <= runs; run++) {
+            long[] result = start();
+            readyMillis.add(result[1]);
+            System.out.printf("%-6d %15.3f %15d%n", run, result[0] / 1000.0, result[1]);
+        }
+        System.out.printf("%-6s %15s %15d%n", "min", "", readyMillis.stream().mapToLong(Long::longValue).min().orElseThrow());
+    }
+
+    /**
+     * Starts the application in a new JVM and stops it once healthy.
+     *
+     * @return the startup time logged by Spring Boot and the time until the health check passed, in milliseconds
+     */
+    private long[] start() throws Exception {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-cp", System.getProperty("java.class.path"),
+                StudentManagementApplication.class.getName(), "--spring.profiles.active=prod", "--students.data-dir=" + dataDirectory, "--server.port=0")
+                .redirectErrorStream(true).start();
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            Integer port = null;
+            Long loggedMillis = null;
+            String line;
+            while (loggedMillis == null && (line = output.readLine()) != null) {
+                Matcher portMatcher = PORT_PATTERN.matcher(line);
+                Matcher startedMatcher = STARTED_PATTERN.matcher(line);
+                if (portMatcher.find()) {
+                    port = Integer.parseInt(portMatcher.group(1));
+                } else if (startedMatcher.find()) {
+                    loggedMillis = Math.round(Double.parseDouble(startedMatcher.group(1)) * 1000);
+                }
+            }
+            Assertions.assertNotNull(port, "Application did not start");
+            Assertions.assertNotNull(loggedMillis, "Application did not start");
+            awaitHealthy(port);
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // A graceful stop closes and compacts the database before the next run opens it
+            process.destroy();
+            Assertions.assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+            return new long[]{loggedMillis, readyMillis};
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    private void awaitHealthy(int port) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).timeout(Duration.ofSeconds(5)).GET().build();
+        for (int attempt = 0; attempt < 600; attempt++) {
+            if (client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode() == 200) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        Assertions.fail("Application did not become healthy");
+    }
+}
@@ -0,0 +1,41 @@
+package com.spectrosystems.student_management_api.mappers;
+
+import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.exceptions.InvalidFieldSelectionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+public class StudentMapperTest {
+
+    @Test
+    void parseFields_shouldAlwaysIncludeIdFirst() {
+        Set<String> fields = StudentMapper.parseFields("email, lastName,");
+
+        Assertions.assertEquals(List.of("id", "email", "lastName"), List.copyOf(fields));
+    }
+
+    @Test
+    void parseFields_whenFieldIsUnknown_shouldThrowInvalidFieldSelectionException() {
+        Assertions.assertThrows(InvalidFieldSelectionException.class, () -> {
+            StudentMapper.parseFields("email,password");
+        });
+    }
+
+    @Test
+    void select_shouldKeepOnlySelectedFields() {
+        StudentResponse student = new StudentResponse(1L, "Ahmed", "Ashraf", "ahmed@example.com", LocalDate.of(2002, 4, 3), 3L, Instant.parse("2024-01-01T10:00:00Z"), Instant.parse("2024-01-02T10:00:00Z"));
+
+        StudentResponse result = StudentMapper.select(student, StudentMapper.parseFields("email"));
+
+        Assertions.assertEquals(1L, result.getId());
+        Assertions.assertEquals("ahmed@example.com", result.getEmail());
+        Assertions.assertNull(result.getFirstName());
+        Assertions.assertNull(result.getDateOfBirth());
+        Assertions.assertNull(result.getVersion());
+    }
+}
@@ -0,0 +1,63 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
+import com.spectrosystems.student_management_api.models.StudentAuditEvent;
+import com.spectrosystems.student_management_api.services.StudentTableVersion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+@DataJpaTest
+@Import(StudentTableVersion.class)
+public class StudentAuditRepositoryTest {
+
+    private static final Instant OCCURRED_AT = Instant.parse("2026-01-02T03:04:05.123456Z");
+
+    @Autowired
+    private StudentAuditRepository studentAuditRepository;
+
+    @BeforeEach
+    void setUp() {
+        studentAuditRepository.insertAll(List.of(
+                event(StudentAuditAction.CREATED, 1L),
+                event(StudentAuditAction.CREATED, 2L),
+                event(StudentAuditAction.UPDATED, 1L),
+                event(StudentAuditAction.DELETED, 1L)));
+    }
+
+    @Test
+    void insertAll_whenCalled_shouldStoreEveryFieldInOrder() {
+        List<StudentAuditEvent> events = studentAuditRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(10));
+
+        Assertions.assertEquals(List.of(StudentAuditAction.CREATED, StudentAuditAction.CREATED, StudentAuditAction.UPDATED, StudentAuditAction.DELETED), events.stream().map(StudentAuditEvent::getAction).toList());
+        Assertions.assertEquals(List.of(1L, 2L, 1L, 1L), events.stream().map(StudentAuditEvent::getStudentId).toList());
+        Assertions.assertEquals("admin", events.get(0).getPrincipal());
+        Assertions.assertEquals(OCCURRED_AT, events.get(0).getOccurredAt());
+    }
+
+    @Test
+    void findByIdGreaterThanOrderByIdAsc_whenCursorGiven_shouldReturnFollowingEntries() {
+        List<StudentAuditEvent> firstPage = studentAuditRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+        List<StudentAuditEvent> secondPage = studentAuditRepository.findByIdGreaterThanOrderByIdAsc(firstPage.get(1).getId(), Limit.of(2));
+
+        Assertions.assertEquals(List.of(StudentAuditAction.UPDATED, StudentAuditAction.DELETED), secondPage.stream().map(StudentAuditEvent::getAction).toList());
+    }
+
+    @Test
+    void findByStudentIdAndIdGreaterThanOrderByIdAsc_whenCalled_shouldReturnOnlyThatStudent() {
+        List<StudentAuditEvent> events = studentAuditRepository.findByStudentIdAndIdGreaterThanOrderByIdAsc(1L, 0L, Limit.of(10));
+
+        Assertions.assertEquals(List.of(StudentAuditAction.CREATED, StudentAuditAction.UPDATED, StudentAuditAction.DELETED), events.stream().map(StudentAuditEvent::getAction).toList());
+    }
+
+    private static StudentAuditEvent event(StudentAuditAction action, long studentId) {
+        return StudentAuditEvent.builder().occurredAt(OCCURRED_AT).principal("admin").action(action).studentId(studentId).build();
+    }
+}
@@ -0,0 +1,164 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.dtos.StudentSearchRequest;
+import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.services.StudentTableVersion;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@DataJpaTest
+@Import(StudentTableVersion.class)
+public class StudentRepositoryTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private List<Student> students;
+
+    @BeforeEach
+    void setUp() {
+        students = studentRepository.saveAllAndFlush(List.of(
+                student("Ahmed", "Ashraf", "ahmed@example.com", LocalDate.of(2002, 4, 3)),
+                student("Sarah", "Ashton", "sarah@example.com", LocalDate.of(2000, 1, 15)),
+                student("Omar", "Hassan", "omar@example.com", LocalDate.of(2002, 9, 30)),
+                student("Mona", "Ash_ley", "mona@example.com", LocalDate.of(1999, 6, 1))));
+    }
+
+    @Test
+    void findByIdGreaterThanOrderByIdAsc_whenCursorGiven_shouldReturnFollowingStudents() {
+        List<Student> page = studentRepository.findByIdGreaterThanOrderByIdAsc(students.get(1).getId(), Limit.of(10));
+
+        Assertions.assertEquals(List.of(students.get(2).getId(), students.get(3).getId()), page.stream().map(Student::getId).toList());
+    }
+
+    @Test
+    void findBy_whenLastNamePrefixGiven_shouldMatchPrefixOnly() {
+        StudentSearchRequest search = StudentSearchRequest.builder().lastName("Ash").build();
+
+        List<Student> result = studentRepository.findAll(StudentSpecifications.matching(search, 0));
+
+        Assertions.assertEquals(3, result.size());
+    }
+
+    @Test
+    void findBy_whenPrefixContainsWildcard_shouldMatchItLiterally() {
+        StudentSearchRequest search = StudentSearchRequest.builder().lastName("Ash_").build();
+
+        List<Student> result = studentRepository.findAll(StudentSpecifications.matching(search, 0));
+
+        Assertions.assertEquals(List.of("mona@example.com"), result.stream().map(Student::getEmail).toList());
+    }
+
+    @Test
+    void findBy_whenDateRangeAndPrefixGiven_shouldCombineFilters() {
+        StudentSearchRequest search = StudentSearchRequest.builder().lastName("Ash").bornFrom(LocalDate.of(2000, 1, 1)).bornTo(LocalDate.of(2002, 12, 31)).build();
+
+        List<Student> result = studentRepository.findAll(StudentSpecifications.matching(search, 0));
+
+        Assertions.assertEquals(2, result.size());
+    }
+
+    @Test
+    void findFields_shouldSelectOnlyRequestedColumnsAfterCursor() {
+        Specification<Student> afterFirst = (root, query, cb) -> cb.greaterThan(root.get("id"), students.get(0).getId());
+
+        List<Tuple> rows = studentRepository.findFields(afterFirst, List.of("id", "email"), 2);
+
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(2, rows.get(0).getElements().size());
+        Assertions.assertEquals(students.get(1).getId(), rows.get(0).get("id"));
+        Assertions.assertEquals("sarah@example.com", rows.get(0).get("email"));
+    }
+
+    @Test
+    void findChanges_whenStudentDeleted_shouldHideItFromQueriesButReportTombstone() {
+        Student deleted = students.get(1);
+        deleted.setDeletedAt(Instant.now());
+        deleted.setEmail(null);
+        studentRepository.saveAndFlush(deleted);
+        entityManager.clear();
+
+        Assertions.assertTrue(studentRepository.findById(deleted.getId()).isEmpty());
+        Assertions.assertEquals(3, studentRepository.count());
+
+        List<Student> changes = studentRepository.findChanges(Instant.EPOCH, 0L, Instant.now().plusSeconds(1), 10);
+
+        Assertions.assertEquals(4, changes.size());
+        Assertions.assertEquals(deleted.getId(), changes.get(changes.size() - 1).getId());
+        Assertions.assertNotNull(changes.get(changes.size() - 1).getDeletedAt());
+    }
+
+    @Test
+    void findChanges_whenPositionGiven_shouldReturnOnlyLaterChanges() {
+        Instant tie = Instant.parse("2026-01-01T10:00:00Z");
+        // The first three students share one update time, the last one changed a second later
+        studentRepository.updateByIdIn(List.of(students.get(0).getId(), students.get(1).getId(), students.get(2).getId()), null, null, null, tie);
+        studentRepository.updateByIdIn(List.of(students.get(3).getId()), null, null, null, tie.plusSeconds(1));
+        entityManager.clear();
+
+        List<Student> changes = studentRepository.findChanges(tie, students.get(1).getId(), tie.plusSeconds(5), 10);
+        List<Student> afterTie = studentRepository.findChanges(tie, Long.MAX_VALUE, tie.plusSeconds(5), 10);
+        List<Student> untilTie = studentRepository.findChanges(Instant.EPOCH, 0L, tie, 10);
+
+        // Equal update times are ordered by ID, so only the later ID of the tie follows the position
+        Assertions.assertEquals(List.of(students.get(2).getId(), students.get(3).getId()), changes.stream().map(Student::getId).toList());
+        Assertions.assertEquals(List.of(students.get(3).getId()), afterTie.stream().map(Student::getId).toList());
+        Assertions.assertEquals(List.of(students.get(0).getId(), students.get(1).getId(), students.get(2).getId()), untilTie.stream().map(Student::getId).toList());
+    }
+
+    @Test
+    void softDeleteById_shouldReportWhetherStudentExisted() {
+        long id = students.get(0).getId();
+
+        Assertions.assertEquals(1, studentRepository.softDeleteById(id, Instant.now()));
+        Assertions.assertEquals(0, studentRepository.softDeleteById(id, Instant.now()));
+        Assertions.assertEquals(0, studentRepository.softDeleteById(-1L, Instant.now()));
+    }
+
+    @Test
+    void softDeleteByIdIn_shouldTombstoneOnlyExistingStudents() {
+        List<Long> ids = List.of(students.get(0).getId(), students.get(1).getId());
+
+        int deleted = studentRepository.softDeleteByIdIn(ids, Instant.now());
+        entityManager.clear();
+
+        Assertions.assertEquals(2, deleted);
+        Assertions.assertEquals(0, studentRepository.softDeleteByIdIn(ids, Instant.now()));
+        Assertions.assertTrue(studentRepository.lockExistingIds(ids).isEmpty());
+        Assertions.assertEquals(2, studentRepository.count());
+    }
+
+    @Test
+    void updateByIdIn_shouldChangeOnlyGivenFieldsAndBumpVersion() {
+        Student student = students.get(0);
+
+        int updated = studentRepository.updateByIdIn(List.of(student.getId()), null, "Graduated", null, Instant.now());
+        entityManager.clear();
+        Student reloaded = studentRepository.findById(student.getId()).orElseThrow();
+
+        Assertions.assertEquals(1, updated);
+        Assertions.assertEquals("Ahmed", reloaded.getFirstName());
+        Assertions.assertEquals("Graduated", reloaded.getLastName());
+        Assertions.assertEquals(student.getDateOfBirth(), reloaded.getDateOfBirth());
+        Assertions.assertEquals(student.getVersion() + 1, reloaded.getVersion());
+    }
+
+    private static Student student(String firstName, String lastName, String email, LocalDate dateOfBirth) {
+        return Student.builder().firstName(firstName).lastName(lastName).email(email).dateOfBirth(dateOfBirth).build();
+    }
+}
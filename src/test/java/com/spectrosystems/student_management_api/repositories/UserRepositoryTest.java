@@ -0,0 +1,55 @@
+package com.spectrosystems.student_management_api.repositories;
+
+import com.spectrosystems.student_management_api.models.Role;
+import com.spectrosystems.student_management_api.models.User;
+import com.spectrosystems.student_management_api.services.StudentTableVersion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+@DataJpaTest
+@Import(StudentTableVersion.class)
+public class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.saveAllAndFlush(List.of(
+                user("ahmed", "ahmed@example.com"),
+                // Username that equals another user's email
+                user("sarah@example.com", "sarah.h@example.com"),
+                user("sarah", "sarah@example.com")));
+    }
+
+    @Test
+    void findByUsernameOrEmail_whenLoginIsUsername_shouldReturnUser() {
+        List<User> users = userRepository.findByUsernameOrEmail("ahmed");
+
+        Assertions.assertEquals(List.of("ahmed"), users.stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    void findByUsernameOrEmail_whenLoginIsEmail_shouldReturnUser() {
+        List<User> users = userRepository.findByUsernameOrEmail("ahmed@example.com");
+
+        Assertions.assertEquals(List.of("ahmed"), users.stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    void findByUsernameOrEmail_whenBothColumnsMatch_shouldReturnUsernameMatchFirst() {
+        List<User> users = userRepository.findByUsernameOrEmail("sarah@example.com");
+
+        Assertions.assertEquals(List.of("sarah@example.com", "sarah"), users.stream().map(User::getUsername).toList());
+    }
+
+    private static User user(String username, String email) {
+        return User.builder().firstName("First").lastName("Last").username(username).email(email).password("hash").role(Role.USER).build();
+    }
+}
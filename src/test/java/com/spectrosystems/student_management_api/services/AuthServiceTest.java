@@ -0,0 +1,98 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.configs.JwtRevocationList;
+import com.spectrosystems.student_management_api.configs.JwtService;
+import com.spectrosystems.student_management_api.configs.LoginRateLimiter;
+import com.spectrosystems.student_management_api.dtos.AuthenticationResponse;
+import com.spectrosystems.student_management_api.exceptions.InvalidCredentialsException;
+import com.spectrosystems.student_management_api.exceptions.TooManyLoginAttemptsException;
+import com.spectrosystems.student_management_api.exceptions.UserNotFoundException;
+import com.spectrosystems.student_management_api.models.Role;
+import com.spectrosystems.student_management_api.models.User;
+import com.spectrosystems.student_management_api.repositories.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class AuthServiceTest {
+    private UserRepository userRepository;
+    private JwtService jwtService;
+    private AuthenticationManager authenticationManager;
+    private LoginRateLimiter loginRateLimiter;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        jwtService = Mockito.mock(JwtService.class);
+        authenticationManager = Mockito.mock(AuthenticationManager.class);
+        loginRateLimiter = Mockito.mock(LoginRateLimiter.class);
+        authService = new AuthService(userRepository, Mockito.mock(PasswordEncoder.class), jwtService, authenticationManager, Mockito.mock(JwtRevocationList.class), loginRateLimiter);
+    }
+
+    @Test
+    void login_whenCredentialsAreValid_shouldUseAuthenticatedPrincipalWithoutReloadingUser() {
+        User user = User.builder().id(1L).username("ahmed").email("ahmed@example.com").role(Role.USER).build();
+        when(authenticationManager.authenticate(any())).thenReturn(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        when(jwtService.generateToken(user)).thenReturn("token");
+
+        AuthenticationResponse response = authService.login("ahmed@example.com", "secret123", "10.0.0.1");
+
+        Assertions.assertEquals("token", response.getToken());
+        verify(authenticationManager, times(1)).authenticate(new UsernamePasswordAuthenticationToken("ahmed@example.com", "secret123"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void login_whenUserDoesNotExist_shouldThrowUserNotFoundException() {
+        when(authenticationManager.authenticate(any())).thenThrow(new UsernameNotFoundException("nobody"));
+
+        Assertions.assertThrows(UserNotFoundException.class, () -> {
+            authService.login("nobody", "secret123", "10.0.0.1");
+        });
+    }
+
+    @Test
+    void login_whenPasswordIsWrong_shouldThrowInvalidCredentialsException() {
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        Assertions.assertThrows(InvalidCredentialsException.class, () -> {
+            authService.login("ahmed", "wrong", "10.0.0.1");
+        });
+        verify(jwtService, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    void login_whenClientIsRateLimited_shouldRejectBeforeAuthenticating() {
+        doThrow(new TooManyLoginAttemptsException("Too many login attempts", Duration.ofSeconds(3))).when(loginRateLimiter).checkClientAttempt("10.0.0.1");
+
+        Assertions.assertThrows(TooManyLoginAttemptsException.class, () -> {
+            authService.login("ahmed", "secret123", "10.0.0.1");
+        });
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void login_whenAccountIsRateLimited_shouldUnwrapTheRejection() {
+        TooManyLoginAttemptsException rejection = new TooManyLoginAttemptsException("Too many login attempts", Duration.ofSeconds(3));
+        when(authenticationManager.authenticate(any())).thenThrow(new InternalAuthenticationServiceException(rejection.getMessage(), rejection));
+
+        TooManyLoginAttemptsException ex = Assertions.assertThrows(TooManyLoginAttemptsException.class, () -> {
+            authService.login("ahmed", "secret123", "10.0.0.1");
+        });
+        Assertions.assertSame(rejection, ex);
+    }
+}
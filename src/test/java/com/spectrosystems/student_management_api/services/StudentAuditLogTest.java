@@ -0,0 +1,137 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
+import com.spectrosystems.student_management_api.models.StudentAuditEvent;
+import com.spectrosystems.student_management_api.repositories.StudentAuditRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class StudentAuditLogTest {
+
+    private StudentAuditRepository studentAuditRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<StudentAuditEvent>> batches;
+
+    @BeforeEach
+    void setUp() {
+        studentAuditRepository = Mockito.mock(StudentAuditRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        batches = Collections.synchronizedList(new ArrayList<>());
+        // Copy each batch, as the writer reuses its list
+        doAnswer(invocation -> batches.add(new ArrayList<>(invocation.<List<StudentAuditEvent>>getArgument(0)))).when(studentAuditRepository).insertAll(anyList());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void record_whenStopped_shouldWriteEveryEntryInBatchesWithPrincipal() {
+        StudentAuditLog auditLog = auditLog(10_000, 100, StudentAuditLog.OverflowPolicy.WAIT);
+        auditLog.start();
+
+        auditLog.record(StudentAuditAction.UPDATED, LongStream.rangeClosed(1, 250).boxed().toList());
+        auditLog.stop();
+
+        List<StudentAuditEvent> written = batches.stream().flatMap(List::stream).toList();
+        Assertions.assertEquals(250, written.size());
+        Assertions.assertTrue(batches.stream().allMatch(batch -> batch.size() <= 100));
+        Assertions.assertEquals(LongStream.rangeClosed(1, 250).boxed().toList(), written.stream().map(StudentAuditEvent::getStudentId).toList());
+        Assertions.assertTrue(written.stream().allMatch(event -> event.getPrincipal().equals("admin") && event.getAction() == StudentAuditAction.UPDATED));
+        Assertions.assertEquals(0, auditLog.pending());
+        Assertions.assertEquals(250, meterRegistry.get("audit.events").tag("result", "written").counter().count());
+    }
+
+    @Test
+    void record_whenNoAuthentication_shouldUseSystemPrincipal() {
+        SecurityContextHolder.clearContext();
+        StudentAuditLog auditLog = auditLog(10, 10, StudentAuditLog.OverflowPolicy.WAIT);
+        auditLog.start();
+
+        auditLog.record(StudentAuditAction.CREATED, 1L);
+        auditLog.stop();
+
+        Assertions.assertEquals(StudentAuditLog.SYSTEM_PRINCIPAL, batches.get(0).get(0).getPrincipal());
+    }
+
+    @Test
+    void record_whenQueueFullAndPolicyIsDrop_shouldDropAndCount() {
+        StudentAuditLog auditLog = auditLog(2, 10, StudentAuditLog.OverflowPolicy.DROP);
+
+        auditLog.record(StudentAuditAction.CREATED, List.of(1L, 2L, 3L));
+
+        Assertions.assertEquals(2, auditLog.pending());
+        Assertions.assertEquals(1, meterRegistry.get("audit.events").tag("result", "dropped").counter().count());
+
+        auditLog.start();
+        auditLog.stop();
+        Assertions.assertEquals(List.of(1L, 2L), batches.stream().flatMap(List::stream).map(StudentAuditEvent::getStudentId).toList());
+    }
+
+    @Test
+    void record_whenQueueFullAndPolicyIsWait_shouldWaitForWriter() {
+        StudentAuditLog auditLog = auditLog(10, 5, StudentAuditLog.OverflowPolicy.WAIT);
+        auditLog.start();
+
+        auditLog.record(StudentAuditAction.DELETED, LongStream.rangeClosed(1, 1000).boxed().toList());
+        auditLog.stop();
+
+        Assertions.assertEquals(1000, batches.stream().mapToInt(List::size).sum());
+        Assertions.assertEquals(0, meterRegistry.get("audit.events").tag("result", "dropped").counter().count());
+    }
+
+    @Test
+    void record_whenInsideTransaction_shouldQueueOnlyAfterCommit() {
+        StudentAuditLog auditLog = auditLog(10, 10, StudentAuditLog.OverflowPolicy.WAIT);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            auditLog.record(StudentAuditAction.DELETED, 1L);
+            auditLog.record(StudentAuditAction.DELETED, 2L);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+            Assertions.assertEquals(0, auditLog.pending());
+            // Only the first transaction commits
+            synchronizations.get(0).afterCommit();
+            Assertions.assertEquals(1, auditLog.pending());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void write_whenDatabaseFailsOnce_shouldRetryBatch() {
+        doThrow(new RuntimeException("Database unavailable")).doAnswer(invocation -> batches.add(new ArrayList<>(invocation.<List<StudentAuditEvent>>getArgument(0)))).when(studentAuditRepository).insertAll(anyList());
+        StudentAuditLog auditLog = auditLog(10, 10, StudentAuditLog.OverflowPolicy.WAIT);
+        auditLog.start();
+
+        auditLog.record(StudentAuditAction.CREATED, 1L);
+        auditLog.stop();
+
+        verify(studentAuditRepository, times(2)).insertAll(anyList());
+        Assertions.assertEquals(1, batches.size());
+        Assertions.assertEquals(0, meterRegistry.get("audit.events").tag("result", "failed").counter().count());
+    }
+
+    private StudentAuditLog auditLog(int capacity, int batchSize, StudentAuditLog.OverflowPolicy policy) {
+        return new StudentAuditLog(studentAuditRepository, meterRegistry, capacity, batchSize, Duration.ofMillis(10), policy, Duration.ofSeconds(5), Duration.ofSeconds(10));
+    }
+}
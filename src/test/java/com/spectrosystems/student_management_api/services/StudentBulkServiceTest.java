@@ -0,0 +1,93 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.configs.CacheConfig;
+import com.spectrosystems.student_management_api.dtos.StudentBulkResponse;
+import com.spectrosystems.student_management_api.dtos.StudentBulkUpdateRequest;
+import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class StudentBulkServiceTest {
+
+    private StudentRepository studentRepository;
+    private StudentTableVersion studentTableVersion;
+    private CacheManager cacheManager;
+    private StudentAuditLog studentAuditLog;
+    private StudentBulkService studentBulkService;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = Mockito.mock(StudentRepository.class);
+        studentTableVersion = Mockito.mock(StudentTableVersion.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.STUDENTS_CACHE);
+        studentAuditLog = Mockito.mock(StudentAuditLog.class);
+        studentBulkService = new StudentBulkService(studentRepository, studentTableVersion, new InFlightStudentWrites(), cacheManager, studentAuditLog);
+    }
+
+    @Test
+    void deleteStudents_whenSomeIdsMissing_shouldReportThemAndDeleteTheRest() {
+        cacheManager.getCache(CacheConfig.STUDENTS_CACHE).put(1L, StudentResponse.builder().id(1L).build());
+        when(studentRepository.lockExistingIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+        when(studentRepository.softDeleteByIdIn(eq(List.of(1L, 3L)), any(Instant.class))).thenReturn(2);
+
+        StudentBulkResponse response = studentBulkService.deleteStudents(List.of(1L, 2L, 3L, 1L));
+
+        Assertions.assertEquals(2, response.getAffected());
+        Assertions.assertEquals(List.of(2L), response.getNotFound());
+        Assertions.assertNull(cacheManager.getCache(CacheConfig.STUDENTS_CACHE).get(1L));
+        verify(studentTableVersion, times(1)).increment();
+        verify(studentAuditLog, times(1)).record(StudentAuditAction.DELETED, Set.of(1L, 3L));
+        verify(studentRepository, times(0)).findById(any());
+        // The rows are locked before they are deleted, so no concurrent change can slip in between
+        InOrder inOrder = inOrder(studentRepository);
+        inOrder.verify(studentRepository).lockExistingIds(List.of(1L, 2L, 3L));
+        inOrder.verify(studentRepository).softDeleteByIdIn(eq(List.of(1L, 3L)), any(Instant.class));
+    }
+
+    @Test
+    void deleteStudents_whenNoIdExists_shouldNotWrite() {
+        when(studentRepository.lockExistingIds(anyList())).thenReturn(List.of());
+
+        StudentBulkResponse response = studentBulkService.deleteStudents(List.of(7L));
+
+        Assertions.assertEquals(0, response.getAffected());
+        Assertions.assertEquals(List.of(7L), response.getNotFound());
+        verify(studentRepository, times(0)).softDeleteByIdIn(anyList(), any(Instant.class));
+        verify(studentTableVersion, times(0)).increment();
+        verify(studentAuditLog, times(0)).record(any(StudentAuditAction.class), anyCollection());
+    }
+
+    @Test
+    void updateStudents_whenManyIds_shouldSplitIntoChunks() {
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, StudentBulkService.CHUNK_SIZE + 1).boxed().toList());
+        when(studentRepository.lockExistingIds(anyList())).thenAnswer(invocation -> new ArrayList<>(invocation.<List<Long>>getArgument(0)));
+        when(studentRepository.updateByIdIn(anyList(), any(), any(), any(), any(Instant.class))).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        StudentBulkUpdateRequest request = StudentBulkUpdateRequest.builder().ids(ids).lastName("Graduated").build();
+
+        StudentBulkResponse response = studentBulkService.updateStudents(request);
+
+        Assertions.assertEquals(ids.size(), response.getAffected());
+        Assertions.assertTrue(response.getNotFound().isEmpty());
+        verify(studentRepository, times(2)).updateByIdIn(anyList(), eq(null), eq("Graduated"), eq(null), any(Instant.class));
+        verify(studentTableVersion, times(1)).increment();
+    }
+}
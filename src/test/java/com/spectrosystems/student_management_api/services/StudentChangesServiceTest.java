@@ -0,0 +1,119 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.dtos.StudentChangesResponse;
+import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class StudentChangesServiceTest {
+
+    private StudentRepository studentRepository;
+    private InFlightStudentWrites inFlightStudentWrites;
+    private StudentChangesService studentChangesService;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = Mockito.mock(StudentRepository.class);
+        inFlightStudentWrites = new InFlightStudentWrites();
+        studentChangesService = new StudentChangesService(studentRepository, inFlightStudentWrites, Duration.ofSeconds(2));
+    }
+
+    @Test
+    void retrieveChanges_whenStudentsChangedAndDeleted_shouldSplitThem() {
+        Instant time = Instant.parse("2024-01-01T10:00:00Z");
+        when(studentRepository.findChanges(eq(Instant.EPOCH), eq(0L), any(Instant.class), eq(11))).thenReturn(List.of(
+                student(1L, time, null), student(2L, time.plusSeconds(1), time.plusSeconds(1))));
+
+        StudentChangesResponse response = studentChangesService.retrieveChanges(null, null, 10);
+
+        Assertions.assertEquals(List.of(1L), response.getChanged().stream().map(changed -> changed.getId()).toList());
+        Assertions.assertEquals(List.of(2L), response.getDeleted());
+        Assertions.assertFalse(response.isHasMore());
+        Assertions.assertNull(response.getAfterId());
+        // Caught up: the next call starts from the watermark, which trails the current time by the commit lag
+        Assertions.assertTrue(response.getSince().isBefore(Instant.now().minusSeconds(1)));
+        Assertions.assertTrue(response.getSince().isAfter(time));
+    }
+
+    @Test
+    void retrieveChanges_whenMoreChangesThanLimit_shouldResumeAfterLastReturnedRow() {
+        Instant time = Instant.parse("2024-01-01T10:00:00Z");
+        when(studentRepository.findChanges(any(Instant.class), anyLong(), any(Instant.class), eq(3))).thenReturn(List.of(
+                student(1L, time, null), student(2L, time, null), student(3L, time, null)));
+
+        StudentChangesResponse response = studentChangesService.retrieveChanges(time.minusSeconds(5), null, 2);
+
+        Assertions.assertEquals(2, response.getChanged().size());
+        Assertions.assertTrue(response.isHasMore());
+        Assertions.assertEquals(time, response.getSince());
+        Assertions.assertEquals(2L, response.getAfterId());
+    }
+
+    @Test
+    void retrieveChanges_whenResumingFromWatermarkWithoutAfterId_shouldSkipChangesAtExactlyThatTime() {
+        Instant watermark = Instant.parse("2024-01-01T10:00:00Z");
+
+        studentChangesService.retrieveChanges(watermark, null, 10);
+
+        verify(studentRepository, times(1)).findChanges(eq(watermark), eq(Long.MAX_VALUE), any(Instant.class), eq(11));
+    }
+
+    @Test
+    void retrieveChanges_whenWriteTransactionInFlight_shouldKeepWatermarkBeforeItsStart() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            inFlightStudentWrites.begin();
+            Instant writeStart = inFlightStudentWrites.oldestStart();
+
+            StudentChangesResponse response = studentChangesService.retrieveChanges(Instant.EPOCH, 0L, 10);
+
+            // A long transaction may have stamped rows at its start that are not committed yet
+            Assertions.assertTrue(response.getSince().isBefore(writeStart));
+            verify(studentRepository, times(1)).findChanges(eq(Instant.EPOCH), eq(0L), eq(response.getSince()), eq(11));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            Assertions.assertNull(inFlightStudentWrites.oldestStart());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void retrieveChanges_whenLimitTooLarge_shouldClampIt() {
+        studentChangesService.retrieveChanges(null, null, 100_000);
+
+        verify(studentRepository, times(1)).findChanges(any(Instant.class), anyLong(), any(Instant.class), eq(StudentService.MAX_PAGE_SIZE + 1));
+        verify(studentRepository, times(0)).findChanges(any(Instant.class), anyLong(), any(Instant.class), eq(100_001));
+    }
+
+    @Test
+    void retrieveChanges_whenPositionAheadOfWatermark_shouldKeepIt() {
+        Instant future = Instant.now().plusSeconds(60);
+        when(studentRepository.findChanges(any(Instant.class), anyLong(), any(Instant.class), anyInt())).thenReturn(List.of());
+
+        StudentChangesResponse response = studentChangesService.retrieveChanges(future, 7L, 10);
+
+        Assertions.assertEquals(future, response.getSince());
+        Assertions.assertEquals(7L, response.getAfterId());
+    }
+
+    private static Student student(long id, Instant updatedAt, Instant deletedAt) {
+        return new Student(id, "Ahmed", "Ashraf", deletedAt == null ? "ahmed" + id + "@example.com" : null, LocalDate.of(2002, 4, 3), 0L, updatedAt, updatedAt, deletedAt);
+    }
+}
@@ -0,0 +1,62 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+
+public class StudentExportServiceTest {
+    private StudentRepository studentRepository;
+    private EntityManager entityManager;
+    private StudentExportService studentExportService;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = Mockito.mock(StudentRepository.class);
+        entityManager = Mockito.mock(EntityManager.class);
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        studentExportService = new StudentExportService(studentRepository, entityManager, objectMapper);
+    }
+
+    @Test
+    void exportStudents_whenStudentsExist_shouldWriteOneLinePerStudent() throws Exception {
+        Student first = new Student(1L, "Ahmed", "Ashraf", "ahmed@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null);
+        Student second = new Student(2L, "Ahmed", "Ashraf", "ahmedddd@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null);
+
+        when(studentRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(first, second));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        studentExportService.exportStudents(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertTrue(lines[0].contains("\"email\":\"ahmed@example.com\""));
+        Assertions.assertTrue(lines[1].contains("\"dateOfBirth\":\"2002-04-03\""));
+
+        verify(entityManager, times(1)).detach(first);
+        verify(entityManager, times(1)).detach(second);
+    }
+
+    @Test
+    void exportStudents_whenNoStudents_shouldWriteNothing() throws Exception {
+        when(studentRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        studentExportService.exportStudents(out);
+
+        Assertions.assertEquals(0, out.size());
+    }
+}
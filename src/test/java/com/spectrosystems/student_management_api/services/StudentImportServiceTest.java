@@ -0,0 +1,144 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.spectrosystems.student_management_api.dtos.StudentImportResponse;
+import com.spectrosystems.student_management_api.dtos.StudentImportResult;
+import com.spectrosystems.student_management_api.dtos.StudentRequest;
+import com.spectrosystems.student_management_api.exceptions.InvalidImportFileException;
+import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+public class StudentImportServiceTest {
+    private StudentRepository studentRepository;
+    private StudentImportService studentImportService;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = Mockito.mock(StudentRepository.class);
+        studentImportService = new StudentImportService(studentRepository, Validation.buildDefaultValidatorFactory().getValidator(), Mockito.mock(PlatformTransactionManager.class), new InFlightStudentWrites(), Mockito.mock(StudentAuditLog.class), 2);
+
+        when(studentRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            List<Student> saved = new ArrayList<>();
+            for (Student student : students) {
+                saved.add(Student.builder().id(student.getEmail().length()).firstName(student.getFirstName()).lastName(student.getLastName()).email(student.getEmail()).dateOfBirth(student.getDateOfBirth()).build());
+            }
+            return saved;
+        });
+    }
+
+    @Test
+    void importStudents_whenRowsAreValid_shouldSaveInChunks() {
+        List<StudentRequest> requests = List.of(request("a@example.com"), request("bb@example.com"), request("ccc@example.com"));
+        when(studentRepository.findEmailsIn(anyCollection())).thenReturn(Set.of());
+
+        StudentImportResponse result = studentImportService.importStudents(requests);
+
+        Assertions.assertEquals(3, result.getCreated());
+        Assertions.assertEquals(0, result.getFailed());
+        Assertions.assertEquals(List.of(1, 2, 3), result.getResults().stream().map(StudentImportResult::getRow).toList());
+        Assertions.assertEquals(13L, result.getResults().get(0).getId());
+        verify(studentRepository, times(2)).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void importStudents_whenRowsAreInvalidOrDuplicated_shouldReportEachRow() {
+        StudentRequest invalid = request("not-an-email");
+        List<StudentRequest> requests = List.of(request("a@example.com"), invalid, request("a@example.com"), request("taken@example.com"));
+        when(studentRepository.findEmailsIn(anyCollection())).thenReturn(Set.of("taken@example.com"));
+
+        StudentImportResponse result = studentImportService.importStudents(requests);
+
+        Assertions.assertEquals(1, result.getCreated());
+        Assertions.assertEquals(3, result.getFailed());
+        Assertions.assertEquals(StudentImportResult.Status.CREATED, result.getResults().get(0).getStatus());
+        Assertions.assertEquals(StudentImportResult.Status.INVALID, result.getResults().get(1).getStatus());
+        Assertions.assertEquals(StudentImportResult.Status.DUPLICATE_EMAIL, result.getResults().get(2).getStatus());
+        Assertions.assertEquals(StudentImportResult.Status.DUPLICATE_EMAIL, result.getResults().get(3).getStatus());
+    }
+
+    @Test
+    void importStudentsCsv_whenRowIsMalformed_shouldReportParseError() throws Exception {
+        String csv = """
+                firstName,lastName,email,dateOfBirth
+                Ahmed,Ashraf,ahmed@example.com,2002-04-03
+                Ahmed,Ashraf,second@example.com,not-a-date
+                """;
+        when(studentRepository.findEmailsIn(anyCollection())).thenReturn(Set.of());
+
+        StudentImportResponse result = studentImportService.importStudentsCsv(new StringReader(csv));
+
+        Assertions.assertEquals(1, result.getCreated());
+        Assertions.assertEquals(StudentImportResult.Status.INVALID, result.getResults().get(1).getStatus());
+        Assertions.assertTrue(result.getResults().get(1).getMessage().startsWith("dateOfBirth"));
+    }
+
+    @Test
+    void importStudentsCsv_whenFieldsAreQuoted_shouldKeepCommasAndQuotesInsideTheField() throws Exception {
+        String csv = "firstName,lastName,email,dateOfBirth\r\n"
+                + "\"Ahmed\", \"Ashraf\" ,\"a@example.com\",2002-04-03\r\n"
+                + "Ahmed,\"Ashraf, Jr.\",bb@example.com,2002-04-03\r\n"
+                + "Ahmed,\"Ash\"\",raf\",ccc@example.com,2002-04-03\r\n";
+        when(studentRepository.findEmailsIn(anyCollection())).thenReturn(Set.of());
+
+        StudentImportResponse result = studentImportService.importStudentsCsv(new StringReader(csv));
+
+        Assertions.assertEquals(1, result.getCreated());
+        verify(studentRepository).saveAllAndFlush(argThat(students -> {
+            Student student = students.iterator().next();
+            return student.getFirstName().equals("Ahmed") && student.getLastName().equals("Ashraf") && student.getEmail().equals("a@example.com");
+        }));
+        // The commas stay inside the last name, which then fails validation instead of shifting the columns
+        Assertions.assertTrue(result.getResults().get(1).getMessage().startsWith("lastName"));
+        Assertions.assertTrue(result.getResults().get(2).getMessage().startsWith("lastName"));
+    }
+
+    @Test
+    void importStudentsCsv_whenLinesAreBlankOrSpanned_shouldReportFileLineNumbers() throws Exception {
+        String csv = """
+                firstName,lastName,email,dateOfBirth
+
+                Ahmed,"Multi
+                Line",a@example.com,2002-04-03
+
+                Ahmed,Ashraf,bb@example.com,2002-04-03,extra
+                Ahmed,"Ashraf"x,ccc@example.com,2002-04-03
+                Ahmed,Ashraf,dddd@example.com,2002-04-03
+                """;
+        when(studentRepository.findEmailsIn(anyCollection())).thenReturn(Set.of());
+
+        StudentImportResponse result = studentImportService.importStudentsCsv(new StringReader(csv));
+
+        Assertions.assertEquals(List.of(3, 6, 7, 8), result.getResults().stream().map(StudentImportResult::getRow).toList());
+        Assertions.assertTrue(result.getResults().get(0).getMessage().startsWith("lastName"));
+        Assertions.assertEquals("Expected 4 columns but found 5", result.getResults().get(1).getMessage());
+        Assertions.assertEquals("Unexpected character after closing quote", result.getResults().get(2).getMessage());
+        Assertions.assertEquals(StudentImportResult.Status.CREATED, result.getResults().get(3).getStatus());
+    }
+
+    @Test
+    void importStudentsCsv_whenHeaderIsWrong_shouldThrowInvalidImportFileException() {
+        Assertions.assertThrows(InvalidImportFileException.class, () -> {
+            studentImportService.importStudentsCsv(new StringReader("name,email\nAhmed,ahmed@example.com"));
+        });
+
+        verify(studentRepository, times(0)).saveAllAndFlush(anyList());
+    }
+
+    private static StudentRequest request(String email) {
+        return StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email(email).dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+    }
+}
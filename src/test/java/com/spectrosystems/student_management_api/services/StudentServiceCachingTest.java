@@ -0,0 +1,143 @@
+package com.spectrosystems.student_management_api.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spectrosystems.student_management_api.configs.CacheConfig;
+import com.spectrosystems.student_management_api.dtos.StudentRequest;
+import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+public class StudentServiceCachingTest {
+
+    @Configuration
+    @Import(CacheConfig.class)
+    static class Config {
+
+        @Bean
+        StudentRepository studentRepository() {
+            return Mockito.mock(StudentRepository.class);
+        }
+
+        @Bean
+        StudentService studentService(StudentRepository studentRepository) {
+            return new StudentService(studentRepository, Mockito.mock(StudentTableVersion.class), new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(), Mockito.mock(StudentAuditLog.class));
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.STUDENTS_CACHE);
+        }
+    }
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        reset(studentRepository);
+        cacheManager.getCache(CacheConfig.STUDENTS_CACHE).clear();
+        student = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+    }
+
+    @Test
+    void retrieveStudentById_whenCalledTwice_shouldQueryRepositoryOnce() {
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+
+        studentService.retrieveStudentById(1L);
+        studentService.retrieveStudentById(1L);
+
+        verify(studentRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void deleteStudent_whenStudentWasCached_shouldEvictIt() {
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(studentRepository.softDeleteById(eq(1L), any(Instant.class))).thenReturn(1);
+
+        studentService.retrieveStudentById(1L);
+        studentService.deleteStudent(1L);
+        studentService.retrieveStudentById(1L);
+
+        verify(studentRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void updateStudent_whenStudentWasCached_shouldReplaceCachedEntry() {
+        StudentRequest request = StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+
+        studentService.retrieveStudentById(1L);
+        studentService.updateStudent(1L, request);
+
+        Assertions.assertEquals("NEWahmed@example.com", studentService.retrieveStudentById(1L).getEmail());
+        verify(studentRepository, times(2)).findById(1L);
+        // The change is written by dirty checking on flush, not by save
+        verify(studentRepository, times(1)).flush();
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
+    @Test
+    void deleteStudent_whenTransactionRollsBack_shouldKeepCachedEntry() {
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(studentRepository.softDeleteById(eq(1L), any(Instant.class))).thenReturn(1);
+        studentService.retrieveStudentById(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            studentService.deleteStudent(1L);
+            Assertions.assertNotNull(cacheManager.getCache(CacheConfig.STUDENTS_CACHE).get(1L));
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertNotNull(cacheManager.getCache(CacheConfig.STUDENTS_CACHE).get(1L));
+    }
+
+    @Test
+    void deleteStudent_whenTransactionCommits_shouldEvictOnlyAfterCommit() {
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(studentRepository.softDeleteById(eq(1L), any(Instant.class))).thenReturn(1);
+        studentService.retrieveStudentById(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            studentService.deleteStudent(1L);
+            Assertions.assertNotNull(cacheManager.getCache(CacheConfig.STUDENTS_CACHE).get(1L));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertNull(cacheManager.getCache(CacheConfig.STUDENTS_CACHE).get(1L));
+    }
+}
@@ -1,40 +1,59 @@
 package com.spectrosystems.student_management_api.services;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.spectrosystems.student_management_api.dtos.StudentPageResponse;
 import com.spectrosystems.student_management_api.dtos.StudentRequest;
 import com.spectrosystems.student_management_api.dtos.StudentResponse;
+import com.spectrosystems.student_management_api.dtos.StudentSearchRequest;
 import com.spectrosystems.student_management_api.models.Student;
+import com.spectrosystems.student_management_api.models.StudentAuditAction;
 import com.spectrosystems.student_management_api.exceptions.DuplicateEmailException;
+import com.spectrosystems.student_management_api.exceptions.InvalidPatchException;
+import com.spectrosystems.student_management_api.exceptions.PreconditionFailedException;
 import com.spectrosystems.student_management_api.exceptions.StudentNotFoundException;
 import com.spectrosystems.student_management_api.mappers.StudentMapper;
 import com.spectrosystems.student_management_api.repositories.StudentRepository;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.Mockito.*;
 
 public class StudentServiceTest {
     private StudentRepository studentRepository;
+    private StudentTableVersion studentTableVersion;
+    private StudentAuditLog studentAuditLog;
     private StudentService studentService;
 
     @BeforeEach
     void setUp() {
         studentRepository = Mockito.mock(StudentRepository.class);
-        studentService = new StudentService(studentRepository);
+        studentTableVersion = Mockito.mock(StudentTableVersion.class);
+        studentAuditLog = Mockito.mock(StudentAuditLog.class);
+        studentService = new StudentService(studentRepository, studentTableVersion, new ObjectMapper().registerModule(new JavaTimeModule()), Validation.buildDefaultValidatorFactory().getValidator(), studentAuditLog);
     }
 
     @Test
     void retrieveAllStudents_whenCalled_shouldReturnAllStudents() {
         List<Student> students = new ArrayList<>();
-        students.add(new Student(1L, "Ahmed", "Ashraf", "ahmed@example.com", LocalDate.of(2002, 4, 3)));
-        students.add(new Student(2L, "Ahmed", "Ashraf", "ahmedddd@example.com", LocalDate.of(2002, 4, 3)));
+        students.add(new Student(1L, "Ahmed", "Ashraf", "ahmed@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null));
+        students.add(new Student(2L, "Ahmed", "Ashraf", "ahmedddd@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null));
 
         when(studentRepository.findAll()).thenReturn(students);
 
@@ -43,6 +62,50 @@ public class StudentServiceTest {
         verify(studentRepository, times(1)).findAll();
     }
 
+    @Test
+    void retrieveStudentsPage_whenMoreStudentsExist_shouldReturnNextCursor() {
+        List<Student> students = new ArrayList<>();
+        students.add(new Student(6L, "Ahmed", "Ashraf", "ahmed@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null));
+        students.add(new Student(7L, "Ahmed", "Ashraf", "ahmedd@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null));
+        students.add(new Student(9L, "Ahmed", "Ashraf", "ahmeddd@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null));
+
+        when(studentRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(3))).thenReturn(students);
+
+        StudentPageResponse result = studentService.retrieveStudentsPage(5L, 2);
+
+        Assertions.assertEquals(2, result.getStudents().size());
+        Assertions.assertEquals(7L, result.getNextCursor());
+        verify(studentRepository, times(1)).findByIdGreaterThanOrderByIdAsc(5L, Limit.of(3));
+    }
+
+    @Test
+    void retrieveStudentsPage_whenLastPage_shouldReturnNullCursor() {
+        List<Student> students = new ArrayList<>();
+        students.add(new Student(1L, "Ahmed", "Ashraf", "ahmed@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null));
+
+        when(studentRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(StudentService.MAX_PAGE_SIZE + 1))).thenReturn(students);
+
+        StudentPageResponse result = studentService.retrieveStudentsPage(null, 10_000);
+
+        Assertions.assertEquals(1, result.getStudents().size());
+        Assertions.assertNull(result.getNextCursor());
+        verify(studentRepository, times(1)).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(StudentService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void searchStudents_whenMoreMatchesThanLimit_shouldReturnNextCursor() {
+        List<Student> students = new ArrayList<>();
+        students.add(new Student(3L, "Ahmed", "Ashraf", "ahmed@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null));
+        students.add(new Student(8L, "Ahmed", "Ashraf", "ahmedd@example.com", LocalDate.of(2002, 4, 3), 0L, null, null, null));
+
+        when(studentRepository.findBy(ArgumentMatchers.<Specification<Student>>any(), any())).thenReturn(students);
+
+        StudentPageResponse result = studentService.searchStudents(StudentSearchRequest.builder().lastName("Ash").limit(1).build());
+
+        Assertions.assertEquals(1, result.getStudents().size());
+        Assertions.assertEquals(3L, result.getNextCursor());
+    }
+
     @Test
     void retrieveStudentById_whenStudentExists_shouldReturnStudentResponse() {
         Student student = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
@@ -90,6 +153,7 @@ public class StudentServiceTest {
         Assertions.assertEquals(savedStudent.getDateOfBirth(), result.getDateOfBirth());
 
         verify(studentRepository, times(1)).save(StudentMapper.toStudent(studentRequest));
+        verify(studentAuditLog, times(1)).record(StudentAuditAction.CREATED, 1L);
     }
 
     @Test
@@ -125,19 +189,50 @@ public class StudentServiceTest {
 
         StudentRequest updatedRequest = StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
 
-        Student updatedStudentEntity = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
-
-        StudentResponse expectedResponse = StudentResponse.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+        StudentResponse expectedResponse = StudentResponse.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).version(0L).build();
 
         when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
-        when(studentRepository.save(oldStudent)).thenReturn(updatedStudentEntity);
 
         StudentResponse result = studentService.updateStudent(oldStudent.getId(), updatedRequest);
 
         Assertions.assertEquals(expectedResponse, result);
+        Assertions.assertEquals("NEWahmed@example.com", oldStudent.getEmail());
 
+        // The managed entity is written by dirty checking on flush, not by save
         verify(studentRepository, times(1)).findById(oldStudent.getId());
-        verify(studentRepository, times(1)).save(oldStudent);
+        verify(studentRepository, times(0)).save(any());
+        verify(studentRepository, times(1)).flush();
+    }
+
+    @Test
+    void updateStudent_whenRowIsWritten_shouldRecordAuditEntry() {
+        Student oldStudent = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+
+        StudentRequest updatedRequest = StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+
+        when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
+        // Flushing a changed entity bumps its version
+        doAnswer(invocation -> {
+            oldStudent.setVersion(oldStudent.getVersion() + 1);
+            return null;
+        }).when(studentRepository).flush();
+
+        studentService.updateStudent(oldStudent.getId(), updatedRequest);
+
+        verify(studentAuditLog, times(1)).record(StudentAuditAction.UPDATED, 1L);
+    }
+
+    @Test
+    void updateStudent_whenNothingChanged_shouldNotRecordAuditEntry() {
+        Student oldStudent = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+
+        StudentRequest sameRequest = StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+
+        when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
+
+        studentService.updateStudent(oldStudent.getId(), sameRequest);
+
+        verify(studentAuditLog, times(0)).record(any(StudentAuditAction.class), anyLong());
     }
 
     @Test
@@ -151,7 +246,7 @@ public class StudentServiceTest {
         });
 
         verify(studentRepository, times(1)).findById(1L);
-        verify(studentRepository, times(0)).save(any());
+        verify(studentRepository, times(0)).flush();
     }
 
     @Test
@@ -161,14 +256,14 @@ public class StudentServiceTest {
         StudentRequest updatedRequest = StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
 
         when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
-        when(studentRepository.save(oldStudent)).thenThrow(new DataIntegrityViolationException("Constraint violation", new Throwable("Duplicated Email")));
+        doThrow(new DataIntegrityViolationException("Constraint violation", new Throwable("Duplicated Email"))).when(studentRepository).flush();
 
         Assertions.assertThrows(DuplicateEmailException.class, () -> {
             studentService.updateStudent(oldStudent.getId(), updatedRequest);
         });
 
         verify(studentRepository, times(1)).findById(oldStudent.getId());
-        verify(studentRepository, times(1)).save(oldStudent);
+        verify(studentRepository, times(1)).flush();
     }
 
     @Test
@@ -178,36 +273,118 @@ public class StudentServiceTest {
         StudentRequest updatedRequest = StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
 
         when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
-        when(studentRepository.save(oldStudent)).thenThrow(new DataIntegrityViolationException("Constraint violation", new Throwable("Internal DB Error")));
+        doThrow(new DataIntegrityViolationException("Constraint violation", new Throwable("Internal DB Error"))).when(studentRepository).flush();
 
         Assertions.assertThrows(DataIntegrityViolationException.class, () -> {
             studentService.updateStudent(oldStudent.getId(), updatedRequest);
         });
 
         verify(studentRepository, times(1)).findById(oldStudent.getId());
-        verify(studentRepository, times(1)).save(oldStudent);
+        verify(studentRepository, times(1)).flush();
     }
 
     @Test
-    void deleteStudent_whenStudentExists_shouldDeleteStudent() {
+    void updateStudent_whenIfMatchVersionIsStale_shouldThrowPreconditionFailedException() {
+        Student oldStudent = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).version(3L).build();
+
+        StudentRequest updatedRequest = StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+
+        when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
+
+        Assertions.assertThrows(PreconditionFailedException.class, () -> {
+            studentService.updateStudent(oldStudent.getId(), updatedRequest, Set.of(2L));
+        });
+
+        Assertions.assertEquals("ahmed@example.com", oldStudent.getEmail());
+        verify(studentRepository, times(0)).flush();
+    }
+
+    @Test
+    void updateStudent_whenConcurrentUpdateWinsAfterIfMatch_shouldThrowPreconditionFailedException() {
+        Student oldStudent = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).version(3L).build();
+
+        StudentRequest updatedRequest = StudentRequest.builder().firstName("Ahmed").lastName("Ashraf").email("NEWahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+
+        when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
+        doThrow(new OptimisticLockingFailureException("Row was updated by another transaction")).when(studentRepository).flush();
+
+        Assertions.assertThrows(PreconditionFailedException.class, () -> {
+            studentService.updateStudent(oldStudent.getId(), updatedRequest, Set.of(3L));
+        });
+
+        verify(studentRepository, times(1)).flush();
+    }
+
+    @Test
+    void patchStudent_whenFieldsGiven_shouldChangeOnlyThoseFields() throws Exception {
+        Student oldStudent = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).version(3L).build();
+        JsonNode patch = new ObjectMapper().readTree("{\"lastName\": \"Hassan\", \"dateOfBirth\": \"2001-01-02\"}");
+
+        when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
+
+        StudentResponse result = studentService.patchStudent(oldStudent.getId(), patch, Set.of(3L));
+
+        Assertions.assertEquals("Ahmed", result.getFirstName());
+        Assertions.assertEquals("Hassan", result.getLastName());
+        Assertions.assertEquals("ahmed@example.com", result.getEmail());
+        Assertions.assertEquals(LocalDate.of(2001, 1, 2), result.getDateOfBirth());
+        verify(studentRepository, times(1)).flush();
+    }
+
+    @Test
+    void patchStudent_whenFieldIsUnknown_shouldThrowInvalidPatchException() throws Exception {
+        Student oldStudent = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+        JsonNode patch = new ObjectMapper().readTree("{\"version\": 7}");
+
+        when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
+
+        Assertions.assertThrows(InvalidPatchException.class, () -> {
+            studentService.patchStudent(oldStudent.getId(), patch, null);
+        });
+
+        verify(studentRepository, times(0)).flush();
+    }
+
+    @Test
+    void patchStudent_whenRequiredFieldIsRemoved_shouldThrowInvalidPatchException() throws Exception {
+        Student oldStudent = Student.builder().id(1L).firstName("Ahmed").lastName("Ashraf").email("ahmed@example.com").dateOfBirth(LocalDate.of(2002, 4, 3)).build();
+        JsonNode patch = new ObjectMapper().readTree("{\"firstName\": null}");
+
+        when(studentRepository.findById(oldStudent.getId())).thenReturn(Optional.of(oldStudent));
+
+        Assertions.assertThrows(InvalidPatchException.class, () -> {
+            studentService.patchStudent(oldStudent.getId(), patch, null);
+        });
+
+        Assertions.assertEquals("Ahmed", oldStudent.getFirstName());
+        verify(studentRepository, times(0)).flush();
+    }
+
+    @Test
+    void deleteStudent_whenStudentExists_shouldDeleteWithSingleStatement() {
         long studentId = 1;
-        when(studentRepository.existsById(studentId)).thenReturn(true);
+        when(studentRepository.softDeleteById(eq(studentId), any(Instant.class))).thenReturn(1);
 
         studentService.deleteStudent(studentId);
 
-        verify(studentRepository, times(1)).deleteById(studentId);
+        verify(studentRepository, times(1)).softDeleteById(eq(studentId), any(Instant.class));
+        verify(studentRepository, times(0)).findById(studentId);
+        verify(studentRepository, times(0)).deleteById(studentId);
+        verify(studentTableVersion, times(1)).increment();
+        verify(studentAuditLog, times(1)).record(StudentAuditAction.DELETED, studentId);
     }
 
     @Test
     void deleteStudent_whenStudentDoesNotExist_shouldThrowStudentNotFoundException() {
         long studentId = 1;
-        when(studentRepository.existsById(studentId)).thenReturn(false);
+        when(studentRepository.softDeleteById(eq(studentId), any(Instant.class))).thenReturn(0);
 
         Assertions.assertThrows(StudentNotFoundException.class, () -> {
             studentService.deleteStudent(studentId);
         });
-        verify(studentRepository, times(1)).existsById(studentId);
-
+        verify(studentRepository, times(1)).softDeleteById(eq(studentId), any(Instant.class));
+        verify(studentTableVersion, times(0)).increment();
+        verify(studentAuditLog, times(0)).record(any(StudentAuditAction.class), anyLong());
     }
 
 